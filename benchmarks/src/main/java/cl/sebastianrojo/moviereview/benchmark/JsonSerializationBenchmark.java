@@ -0,0 +1,76 @@
+package cl.sebastianrojo.moviereview.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cl.sebastianrojo.moviereview.dto.review.ContentReviewSummary;
+import cl.sebastianrojo.moviereview.dto.review.ReviewResponse;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbContentItem;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbSearchResponse;
+import cl.sebastianrojo.moviereview.entity.ContentType;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Serialización JSON de las respuestas más frecuentes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int items;
+
+    private JsonMapper jsonMapper;
+    private ContentReviewSummary summary;
+    private TmdbSearchResponse searchResponse;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+
+        List<ReviewResponse> reviews = new ArrayList<>(items);
+        LocalDateTime now = LocalDateTime.now();
+        for (long i = 0; i < items; i++) {
+            reviews.add(new ReviewResponse(i, "user" + i, "550", ContentType.MOVIE, (int) (i % 5) + 1,
+                    "Comentario de prueba número " + i, now.minusMinutes(i), now.minusMinutes(i)));
+        }
+        summary = new ContentReviewSummary("550", ContentType.MOVIE, 12_345, 3.87,
+                Map.of(1, 100L, 2, 200L, 3, 3_000L, 4, 5_000L, 5, 4_045L), reviews, "eyJjdXJzb3IiOjF9");
+
+        List<TmdbContentItem> results = new ArrayList<>(items);
+        for (long i = 0; i < items; i++) {
+            results.add(new TmdbContentItem(i, "Movie " + i, null, "Movie " + i, null, "Overview " + i,
+                    "/poster" + i + ".jpg", "/backdrop" + i + ".jpg", "2020-01-01", null, 7.5, 1_200, "movie"));
+        }
+        searchResponse = new TmdbSearchResponse(1, results, 500, 10_000);
+    }
+
+    @Benchmark
+    public byte[] contentReviewSummary() {
+        return jsonMapper.writeValueAsBytes(summary);
+    }
+
+    @Benchmark
+    public byte[] tmdbSearchResponse() {
+        return jsonMapper.writeValueAsBytes(searchResponse);
+    }
+}
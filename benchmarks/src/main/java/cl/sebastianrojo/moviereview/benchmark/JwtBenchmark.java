@@ -0,0 +1,58 @@
+package cl.sebastianrojo.moviereview.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cl.sebastianrojo.moviereview.benchmark.support.EmbeddedApp;
+import cl.sebastianrojo.moviereview.security.JwtUtil;
+import cl.sebastianrojo.moviereview.security.VerifiedToken;
+
+/**
+ * Costo de emitir y verificar JWT: verificación completa (HMAC + parseo) frente a la caché de tokens verificados
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(EmbeddedApp.JWT_SECRET, 3_600_000, 10_000);
+        uncachedJwtUtil = new JwtUtil(EmbeddedApp.JWT_SECRET, 3_600_000, 0);
+        token = jwtUtil.generateToken(1L, "user1", List.of("ROLE_USER"));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(1L, "user1", List.of("ROLE_USER"));
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyUncached() {
+        return uncachedJwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyCached() {
+        return jwtUtil.verify(token);
+    }
+}
@@ -0,0 +1,101 @@
+package cl.sebastianrojo.moviereview.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import cl.sebastianrojo.moviereview.benchmark.support.DataSeeder;
+import cl.sebastianrojo.moviereview.benchmark.support.EmbeddedApp;
+import cl.sebastianrojo.moviereview.benchmark.support.StubTmdbServer;
+import cl.sebastianrojo.moviereview.dto.review.CreateReviewRequest;
+import cl.sebastianrojo.moviereview.dto.review.ReviewImportItem;
+import cl.sebastianrojo.moviereview.dto.review.ReviewImportResult;
+import cl.sebastianrojo.moviereview.entity.ContentType;
+import cl.sebastianrojo.moviereview.security.AuthenticatedUser;
+import cl.sebastianrojo.moviereview.service.ReviewImportService;
+import cl.sebastianrojo.moviereview.service.ReviewService;
+
+/**
+ * Importación masiva (bloques transaccionales con inserciones en lote) frente a crear
+ * las mismas reviews una a una con ReviewService.createReview.
+ * Cada invocación usa un título nuevo para que ninguna review sea duplicada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ReviewImportBenchmark {
+
+    @Param({"10000"})
+    private int reviews;
+
+    private StubTmdbServer tmdb;
+    private EmbeddedApp app;
+    private ReviewImportService importService;
+    private ReviewService reviewService;
+    private Authentication admin;
+    private int title;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        tmdb = StubTmdbServer.start(Duration.ZERO, 0);
+        app = EmbeddedApp.start(tmdb.baseUrl(), Map.of());
+        importService = app.bean(ReviewImportService.class);
+        reviewService = app.bean(ReviewService.class);
+        admin = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(1L, "user1"), null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+        // Solo se necesitan los usuarios: cada uno reseña un título de relleno
+        DataSeeder.seed(app.bean(JdbcTemplate.class), reviews, 1, 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        app.close();
+        tmdb.close();
+    }
+
+    @Benchmark
+    public ReviewImportResult bulkImport() {
+        String contentId = "import-" + title++;
+        List<ReviewImportItem> items = new ArrayList<>(reviews);
+        for (int user = 1; user <= reviews; user++) {
+            items.add(new ReviewImportItem("user" + user, contentId, ContentType.MOVIE, user % 5 + 1, "Importada", null));
+        }
+        return importService.importReviews(items, admin);
+    }
+
+    @Benchmark
+    public int oneByOne() {
+        String contentId = "single-" + title++;
+        for (int user = 1; user <= reviews; user++) {
+            Authentication authentication = new UsernamePasswordAuthenticationToken(
+                    new AuthenticatedUser((long) user, "user" + user), null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+            reviewService.createReview(
+                    new CreateReviewRequest(contentId, ContentType.MOVIE, user % 5 + 1, "Creada"), authentication);
+        }
+        return reviews;
+    }
+}
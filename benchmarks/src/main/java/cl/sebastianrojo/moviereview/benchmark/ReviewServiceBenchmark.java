@@ -0,0 +1,93 @@
+package cl.sebastianrojo.moviereview.benchmark;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import cl.sebastianrojo.moviereview.benchmark.support.DataSeeder;
+import cl.sebastianrojo.moviereview.benchmark.support.EmbeddedApp;
+import cl.sebastianrojo.moviereview.benchmark.support.StubTmdbServer;
+import cl.sebastianrojo.moviereview.dto.review.ContentReviewSummary;
+import cl.sebastianrojo.moviereview.dto.review.CreateReviewRequest;
+import cl.sebastianrojo.moviereview.dto.review.ReviewResponse;
+import cl.sebastianrojo.moviereview.dto.review.ReviewSort;
+import cl.sebastianrojo.moviereview.entity.ContentType;
+import cl.sebastianrojo.moviereview.security.AuthenticatedUser;
+import cl.sebastianrojo.moviereview.service.ReviewService;
+
+/**
+ * Rutas calientes de ReviewService contra H2 en memoria: una página de reviews de un título
+ * popular (incluye la proyección a ReviewResponse y el agregado), las reviews de un usuario
+ * y el upsert de la review propia.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReviewServiceBenchmark {
+
+    @Param({"10000"})
+    private int reviewsForTitle;
+
+    private StubTmdbServer tmdb;
+    private EmbeddedApp app;
+    private ReviewService reviewService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        tmdb = StubTmdbServer.start(Duration.ZERO, 0);
+        app = EmbeddedApp.start(tmdb.baseUrl(), Map.of());
+        reviewService = app.bean(ReviewService.class);
+
+        // Todos los usuarios reseñan el mismo título ("1", MOVIE)
+        DataSeeder.seed(app.bean(JdbcTemplate.class), reviewsForTitle, 1, 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        app.close();
+        tmdb.close();
+    }
+
+    @Benchmark
+    public ContentReviewSummary contentFirstPage() {
+        return reviewService.getReviewsForContent("1", ContentType.MOVIE, null, 20, ReviewSort.NEWEST);
+    }
+
+    @Benchmark
+    public List<ReviewResponse> userReviews() {
+        return reviewService.getUserReviews("user" + (ThreadLocalRandom.current().nextInt(reviewsForTitle) + 1));
+    }
+
+    @Benchmark
+    public ReviewResponse upsertOwnReview() {
+        long userId = ThreadLocalRandom.current().nextInt(reviewsForTitle) + 1;
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(userId, "user" + userId), null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        CreateReviewRequest request = new CreateReviewRequest(
+                "1", ContentType.MOVIE, ThreadLocalRandom.current().nextInt(5) + 1, "Actualizada");
+        return reviewService.upsertReview(request, authentication);
+    }
+}
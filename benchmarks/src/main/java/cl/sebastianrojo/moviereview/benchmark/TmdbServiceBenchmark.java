@@ -0,0 +1,65 @@
+package cl.sebastianrojo.moviereview.benchmark;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cl.sebastianrojo.moviereview.benchmark.support.EmbeddedApp;
+import cl.sebastianrojo.moviereview.benchmark.support.StubTmdbServer;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbMovieDetails;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbSearchResponse;
+import cl.sebastianrojo.moviereview.service.TmdbService;
+
+/**
+ * TmdbService contra un TMDB local sin latencia: lectura desde caché frente a una ida y vuelta HTTP completa
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TmdbServiceBenchmark {
+
+    private StubTmdbServer tmdb;
+    private EmbeddedApp app;
+    private TmdbService tmdbService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        tmdb = StubTmdbServer.start(Duration.ZERO, 0);
+        // Sin el token bucket (40 req/s): mediría el ritmo del limitador y no la ida y vuelta HTTP
+        app = EmbeddedApp.start(tmdb.baseUrl(), Map.of("tmdb.resilience.rate-limit.enabled", false));
+        tmdbService = app.bean(TmdbService.class);
+        tmdbService.getMovieDetails(550L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        app.close();
+        tmdb.close();
+    }
+
+    @Benchmark
+    public TmdbMovieDetails movieDetailsCached() {
+        return tmdbService.getMovieDetails(550L);
+    }
+
+    @Benchmark
+    public TmdbSearchResponse searchUpstream() {
+        return tmdbService.searchMovies("matrix", 1);
+    }
+}
@@ -0,0 +1,83 @@
+package cl.sebastianrojo.moviereview.benchmark.load;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Latencias registradas por un worker. Cada worker tiene su propia instancia (sin contención)
+ * y al final se combinan para calcular throughput y percentiles.
+ */
+final class LatencyStats {
+
+    private final Map<Operation, long[]> samples = new EnumMap<>(Operation.class);
+    private final Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+    private final Map<Operation, Integer> errors = new EnumMap<>(Operation.class);
+
+    void record(Operation operation, long latencyNanos, boolean error) {
+        int count = counts.getOrDefault(operation, 0);
+        long[] values = samples.computeIfAbsent(operation, op -> new long[1024]);
+        if (count == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+            samples.put(operation, values);
+        }
+        values[count] = latencyNanos;
+        counts.put(operation, count + 1);
+        if (error) {
+            errors.merge(operation, 1, Integer::sum);
+        }
+    }
+
+    static void report(Collection<LatencyStats> workers, Duration elapsed, PrintStream out) {
+        out.printf("%-18s %10s %10s %8s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        long totalRequests = 0;
+        for (Operation operation : Operation.values()) {
+            int total = 0;
+            int failed = 0;
+            for (LatencyStats worker : workers) {
+                total += worker.counts.getOrDefault(operation, 0);
+                failed += worker.errors.getOrDefault(operation, 0);
+            }
+            if (total == 0) {
+                continue;
+            }
+
+            long[] merged = new long[total];
+            int offset = 0;
+            for (LatencyStats worker : workers) {
+                int count = worker.counts.getOrDefault(operation, 0);
+                if (count > 0) {
+                    System.arraycopy(worker.samples.get(operation), 0, merged, offset, count);
+                    offset += count;
+                }
+            }
+            Arrays.sort(merged);
+            totalRequests += total;
+
+            out.printf("%-18s %10d %10.1f %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.name().toLowerCase(), total, total / seconds(elapsed), failed,
+                    millis(percentile(merged, 50)), millis(percentile(merged, 90)), millis(percentile(merged, 99)),
+                    millis(percentile(merged, 99.9)), millis(merged[merged.length - 1]));
+        }
+        out.printf("%ntotal: %d requests in %.1f s (%.1f req/s)%n",
+                totalRequests, seconds(elapsed), totalRequests / seconds(elapsed));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,230 @@
+package cl.sebastianrojo.moviereview.benchmark.load;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import cl.sebastianrojo.moviereview.benchmark.support.DataSeeder;
+import cl.sebastianrojo.moviereview.benchmark.support.EmbeddedApp;
+import cl.sebastianrojo.moviereview.benchmark.support.StubTmdbServer;
+
+/**
+ * Arnés de carga de extremo a extremo: arranca la aplicación contra H2 en memoria y un TMDB
+ * local (con latencia y errores configurables), inserta millones de reviews y genera tráfico
+ * mixto de lectura/escritura sobre /api/reviews/**, /api/tmdb/** y /api/auth/**.
+ *
+ * Ejemplo:
+ *   java -Xmx6g -cp target/benchmarks.jar cl.sebastianrojo.moviereview.benchmark.load.LoadTest \
+ *        --users=200000 --reviews-per-user=10 --concurrency=400 --tmdb-latency-ms=300 --virtual-threads=true
+ */
+public final class LoadTest {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern NEXT_CURSOR = Pattern.compile("\"nextCursor\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String[] SEARCH_TERMS = {"matrix", "star", "love", "war", "night", "dark", "king"};
+    private static final int LOGGED_IN_USERS = 500;
+
+    private final LoadTestOptions options;
+    private final HttpClient http;
+    private final String baseUrl;
+    private final List<String> tokens = new ArrayList<>();
+
+    private LoadTest(LoadTestOptions options, int port) {
+        this.options = options;
+        this.baseUrl = "http://127.0.0.1:" + port;
+        this.http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        System.out.println("Options: " + options);
+
+        try (StubTmdbServer tmdb = StubTmdbServer.start(options.tmdbLatency(), options.tmdbErrorRate());
+             EmbeddedApp app = EmbeddedApp.start(tmdb.baseUrl(), Map.of(
+                     "spring.threads.virtual.enabled", options.virtualThreads(),
+                     "server.tomcat.threads.max", options.tomcatMaxThreads()))) {
+
+            long seedStart = System.nanoTime();
+            DataSeeder.seed(app.bean(JdbcTemplate.class), options.users(), options.titles(), options.reviewsPerUser());
+            System.out.printf("Seeded %d users and %d reviews in %.1f s%n", options.users(), options.totalReviews(),
+                    (System.nanoTime() - seedStart) / 1e9);
+
+            LoadTest loadTest = new LoadTest(options, app.port());
+            loadTest.login();
+
+            System.out.printf("Warming up for %d s...%n", options.warmup().toSeconds());
+            loadTest.run(options.warmup());
+
+            System.out.printf("Measuring for %d s with %d concurrent clients...%n%n",
+                    options.duration().toSeconds(), options.concurrency());
+            List<LatencyStats> results = loadTest.run(options.duration());
+            LatencyStats.report(results, options.duration(), System.out);
+            System.out.printf("upstream TMDB requests: %d%n", tmdb.requestCount());
+        }
+    }
+
+    private void login() throws Exception {
+        for (int i = 0; i < LOGGED_IN_USERS; i++) {
+            String token = loginAs(randomUser());
+            if (token != null) {
+                tokens.add(token);
+            }
+        }
+        if (tokens.isEmpty()) {
+            throw new IllegalStateException("No fue posible autenticar usuarios contra /api/auth/login");
+        }
+    }
+
+    private List<LatencyStats> run(Duration duration) throws InterruptedException {
+        List<LatencyStats> results = new ArrayList<>();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                LatencyStats stats = new LatencyStats();
+                results.add(stats);
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        runOne(stats);
+                    }
+                    return null;
+                });
+            }
+        }
+        return results;
+    }
+
+    private void runOne(LatencyStats stats) {
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < options.authRatio()) {
+            timed(stats, Operation.LOGIN, () -> loginAs(randomUser()) != null);
+        } else if (roll < options.authRatio() + options.writeRatio()) {
+            timed(stats, Operation.UPSERT_REVIEW, () -> ok(send(authorized(request("/api/reviews/content"))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString("""
+                        {"externalContentId":"%d","contentType":"MOVIE","rating":%d,"comment":"load test"}
+                        """.formatted(randomTitle(), ThreadLocalRandom.current().nextInt(5) + 1)))
+                    .build())));
+        } else if (roll < options.authRatio() + options.writeRatio() + options.tmdbRatio()) {
+            runTmdb(stats);
+        } else {
+            runReviewRead(stats);
+        }
+    }
+
+    private void runTmdb(LatencyStats stats) {
+        int pick = ThreadLocalRandom.current().nextInt(10);
+        if (pick < 6) {
+            timed(stats, Operation.TMDB_DETAILS, () -> ok(get("/api/tmdb/movie/" + randomTitle())));
+        } else if (pick < 9) {
+            timed(stats, Operation.TMDB_POPULAR, () ->
+                    ok(get("/api/tmdb/popular/movies?page=" + (ThreadLocalRandom.current().nextInt(5) + 1))));
+        } else {
+            String term = SEARCH_TERMS[ThreadLocalRandom.current().nextInt(SEARCH_TERMS.length)];
+            timed(stats, Operation.TMDB_SEARCH, () -> ok(get("/api/tmdb/search/movies?query=" + encode(term))));
+        }
+    }
+
+    private void runReviewRead(LatencyStats stats) {
+        int pick = ThreadLocalRandom.current().nextInt(10);
+        if (pick < 6) {
+            String path = "/api/reviews/content?externalContentId=" + randomTitle() + "&contentType=MOVIE&size=20";
+            String[] body = new String[1];
+            timed(stats, Operation.CONTENT_PAGE, () -> {
+                HttpResponse<String> response = get(path);
+                body[0] = response.body();
+                return ok(response);
+            });
+            Matcher cursor = body[0] != null ? NEXT_CURSOR.matcher(body[0]) : null;
+            if (cursor != null && cursor.find()) {
+                timed(stats, Operation.CONTENT_NEXT_PAGE, () -> ok(get(path + "&cursor=" + encode(cursor.group(1)))));
+            }
+        } else if (pick < 8) {
+            timed(stats, Operation.USER_REVIEWS, () -> ok(get("/api/reviews/user/" + randomUser())));
+        } else {
+            timed(stats, Operation.MY_REVIEWS, () -> ok(send(authorized(request("/api/reviews/my")).GET().build())));
+        }
+    }
+
+    // ===== HTTP =====
+
+    private String loginAs(String username) throws Exception {
+        HttpResponse<String> response = send(request("/api/auth/login")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                    {"username":"%s","password":"%s"}
+                    """.formatted(username, DataSeeder.PASSWORD)))
+                .build());
+        Matcher matcher = TOKEN.matcher(response.body());
+        return ok(response) && matcher.find() ? matcher.group(1) : null;
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return send(request(path).GET().build());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+    }
+
+    private HttpRequest.Builder authorized(HttpRequest.Builder builder) {
+        return builder.header("Authorization", "Bearer " + tokens.get(ThreadLocalRandom.current().nextInt(tokens.size())));
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static boolean ok(HttpResponse<?> response) {
+        return response.statusCode() < 400;
+    }
+
+    private void timed(LatencyStats stats, Operation operation, Call call) {
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            success = call.run();
+        } catch (Exception e) {
+            success = false;
+        }
+        stats.record(operation, System.nanoTime() - start, !success);
+    }
+
+    private String randomUser() {
+        return "user" + (ThreadLocalRandom.current().nextInt(options.users()) + 1);
+    }
+
+    private int randomTitle() {
+        // Distribución sesgada: la mitad del tráfico se concentra en el 1% de los títulos
+        int hot = Math.max(1, options.titles() / 100);
+        return ThreadLocalRandom.current().nextBoolean()
+                ? ThreadLocalRandom.current().nextInt(hot) + 1
+                : ThreadLocalRandom.current().nextInt(options.titles()) + 1;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        boolean run() throws Exception;
+    }
+}
@@ -0,0 +1,56 @@
+package cl.sebastianrojo.moviereview.benchmark.load;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parámetros del arnés de carga, leídos como --clave=valor
+ */
+public record LoadTestOptions(
+    int users,
+    int titles,
+    int reviewsPerUser,
+    int concurrency,
+    Duration warmup,
+    Duration duration,
+    Duration tmdbLatency,
+    double tmdbErrorRate,
+    boolean virtualThreads,
+    int tomcatMaxThreads,
+    double writeRatio,
+    double tmdbRatio,
+    double authRatio
+) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg + " (se espera --clave=valor)");
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        return new LoadTestOptions(
+            Integer.parseInt(values.getOrDefault("users", "200000")),
+            Integer.parseInt(values.getOrDefault("titles", "5000")),
+            Integer.parseInt(values.getOrDefault("reviews-per-user", "10")),
+            Integer.parseInt(values.getOrDefault("concurrency", "200")),
+            Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup-seconds", "15"))),
+            Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration-seconds", "60"))),
+            Duration.ofMillis(Long.parseLong(values.getOrDefault("tmdb-latency-ms", "50"))),
+            Double.parseDouble(values.getOrDefault("tmdb-error-rate", "0")),
+            Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false")),
+            Integer.parseInt(values.getOrDefault("tomcat-max-threads", "200")),
+            Double.parseDouble(values.getOrDefault("write-ratio", "0.1")),
+            Double.parseDouble(values.getOrDefault("tmdb-ratio", "0.3")),
+            Double.parseDouble(values.getOrDefault("auth-ratio", "0.02"))
+        );
+    }
+
+    public long totalReviews() {
+        return (long) users * reviewsPerUser;
+    }
+}
@@ -0,0 +1,13 @@
+package cl.sebastianrojo.moviereview.benchmark.load;
+
+enum Operation {
+    CONTENT_PAGE,
+    CONTENT_NEXT_PAGE,
+    USER_REVIEWS,
+    MY_REVIEWS,
+    UPSERT_REVIEW,
+    TMDB_DETAILS,
+    TMDB_POPULAR,
+    TMDB_SEARCH,
+    LOGIN
+}
@@ -0,0 +1,80 @@
+package cl.sebastianrojo.moviereview.benchmark.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import cl.sebastianrojo.moviereview.benchmark.support.EmbeddedApp;
+import cl.sebastianrojo.moviereview.benchmark.support.StubTmdbServer;
+import cl.sebastianrojo.moviereview.service.TmdbService;
+
+/**
+ * Ráfagas de llamadas concurrentes e idénticas a TmdbService.getMovieDetails (un título que se
+ * vuelve tendencia): en cada ronda --callers hilos piden a la vez el detalle de una película que
+ * no está en caché. Imprime cuántas peticiones llegaron al TMDB local por ronda.
+ *
+ * Ejemplo:
+ *   java -cp target/benchmarks.jar cl.sebastianrojo.moviereview.benchmark.load.TmdbBurstTest \
+ *        --callers=200 --rounds=10 --tmdb-latency-ms=200
+ */
+public final class TmdbBurstTest {
+
+    private TmdbBurstTest() {}
+
+    public static void main(String[] args) throws Exception {
+        int callers = intOption(args, "callers", 200);
+        int rounds = intOption(args, "rounds", 10);
+        Duration latency = Duration.ofMillis(intOption(args, "tmdb-latency-ms", 200));
+        System.out.printf("Options: callers=%d, rounds=%d, tmdbLatency=%s%n", callers, rounds, latency);
+
+        try (StubTmdbServer tmdb = StubTmdbServer.start(latency, 0);
+             EmbeddedApp app = EmbeddedApp.start(tmdb.baseUrl(), Map.of());
+             ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            TmdbService tmdbService = app.bean(TmdbService.class);
+            long failures = 0;
+            long start = System.nanoTime();
+
+            for (int round = 1; round <= rounds; round++) {
+                long movieId = 100_000L + round;
+                long upstreamBefore = tmdb.requestCount();
+                CountDownLatch go = new CountDownLatch(1);
+                List<Future<?>> calls = new ArrayList<>(callers);
+                for (int i = 0; i < callers; i++) {
+                    calls.add(workers.submit(() -> {
+                        go.await();
+                        return tmdbService.getMovieDetails(movieId);
+                    }));
+                }
+                go.countDown();
+                for (Future<?> call : calls) {
+                    try {
+                        call.get();
+                    } catch (Exception e) {
+                        failures++;
+                    }
+                }
+                System.out.printf("round %d: %d callers, %d upstream TMDB requests%n",
+                        round, callers, tmdb.requestCount() - upstreamBefore);
+            }
+
+            System.out.printf("%ntotal: %d calls, %d failed, %d upstream TMDB requests in %.1f s%n",
+                    (long) callers * rounds, failures, tmdb.requestCount(), (System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    private static int intOption(String[] args, String name, int defaultValue) {
+        String prefix = "--" + name + "=";
+        for (String arg : args) {
+            if (arg.startsWith(prefix)) {
+                return Integer.parseInt(arg.substring(prefix.length()));
+            }
+        }
+        return defaultValue;
+    }
+}
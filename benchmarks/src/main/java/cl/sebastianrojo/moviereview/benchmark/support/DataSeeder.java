@@ -0,0 +1,100 @@
+package cl.sebastianrojo.moviereview.benchmark.support;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Inserta usuarios y reviews sintéticos por JDBC en lotes.
+ * Cada usuario "userN" (contraseña "password") reseña reviewsPerUser títulos distintos;
+ * content_rating_stats queda calculado a partir de las reviews insertadas.
+ */
+public final class DataSeeder {
+
+    public static final String PASSWORD = "password";
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private DataSeeder() {}
+
+    public static void seed(JdbcTemplate jdbc, int userCount, int titleCount, int reviewsPerUser) {
+        if (reviewsPerUser > titleCount) {
+            throw new IllegalArgumentException("reviewsPerUser no puede superar titleCount");
+        }
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        LocalDateTime start = LocalDateTime.now().minusDays(365);
+
+        List<Object[]> users = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= userCount; id++) {
+            users.add(new Object[] {id, "user" + id, passwordHash, "user" + id + "@mail.com", "USER", Timestamp.valueOf(start)});
+            if (users.size() == BATCH_SIZE) {
+                insertUsers(jdbc, users);
+            }
+        }
+        insertUsers(jdbc, users);
+
+        List<Object[]> reviews = new ArrayList<>(BATCH_SIZE);
+        long reviewId = 1;
+        for (long user = 1; user <= userCount; user++) {
+            for (int k = 0; k < reviewsPerUser; k++) {
+                long title = (user + (long) k * (titleCount / reviewsPerUser)) % titleCount + 1;
+                Timestamp createdAt = Timestamp.valueOf(start.plusSeconds(reviewId));
+                reviews.add(new Object[] {
+                    reviewId++, String.valueOf(title), k % 2 == 0 ? "MOVIE" : "SERIES",
+                    (int) ((user + k) % 5) + 1, "Review " + reviewId, createdAt, createdAt, user
+                });
+                if (reviews.size() == BATCH_SIZE) {
+                    insertReviews(jdbc, reviews);
+                }
+            }
+        }
+        insertReviews(jdbc, reviews);
+
+        // Los ids se insertaron explícitamente: las secuencias deben continuar después del máximo
+        restartSequence(jdbc, "users_seq", userCount);
+        restartSequence(jdbc, "reviews_seq", reviewId - 1);
+
+        // Igual que la migración V5: el agregado se calcula una vez a partir de las reviews insertadas
+        jdbc.update("""
+            INSERT INTO content_rating_stats
+                (external_content_id, content_type, review_count, rating_sum,
+                 stars_1, stars_2, stars_3, stars_4, stars_5, updated_at)
+            SELECT external_content_id, content_type, COUNT(*), SUM(rating),
+                   SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END),
+                   CURRENT_TIMESTAMP
+            FROM reviews
+            GROUP BY external_content_id, content_type
+            """);
+    }
+
+    private static void restartSequence(JdbcTemplate jdbc, String sequence, long maxId) {
+        jdbc.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + 51));
+    }
+
+    private static void insertUsers(JdbcTemplate jdbc, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbc.batchUpdate(
+                "INSERT INTO users (id, username, password, email, role, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+            rows.clear();
+        }
+    }
+
+    private static void insertReviews(JdbcTemplate jdbc, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbc.batchUpdate(
+                "INSERT INTO reviews (id, external_content_id, content_type, rating, comment, created_at, updated_at, user_id) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                rows);
+            rows.clear();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package cl.sebastianrojo.moviereview.benchmark.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import cl.sebastianrojo.moviereview.MovieReviewApiApplication;
+
+/**
+ * Arranca la aplicación completa contra una base H2 en memoria (modo MySQL)
+ * y un TMDB local, sin depender de servicios externos.
+ */
+public final class EmbeddedApp implements AutoCloseable {
+
+    public static final String JWT_SECRET = "bW92aWUtcmV2aWV3LWFwaS1sb2NhbC1kZXYtc2VjcmV0LWNoYW5nZS1tZQ==";
+
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedApp(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static EmbeddedApp start(String tmdbBaseUrl, Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:" + UUID.randomUUID()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.flyway.enabled", false); // las migraciones usan sintaxis MySQL
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.jpa.properties.hibernate.format_sql", false);
+        properties.put("jwt.secret", JWT_SECRET);
+        properties.put("tmdb.api.key", "stub");
+        properties.put("tmdb.api.base-url", tmdbBaseUrl);
+        properties.put("tmdb.api.image-base-url", "https://image.tmdb.org/t/p");
+        properties.put("reviews.stats.reconcile-cron", "-");
+        properties.put("catalog.refresh.initial-delay", "1d"); // sin refresco del catálogo durante las mediciones
+        properties.put("tmdb.prefetch.enabled", false);
+        properties.put("logging.level.root", "WARN");
+        properties.putAll(overrides);
+
+        // Como argumentos de línea de comandos: builder.properties() solo fija valores por defecto,
+        // que application.yml reemplaza (datasource, jwt.secret...)
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MovieReviewApiApplication.class)
+                .run(args);
+        return new EmbeddedApp(context);
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public int port() {
+        Environment environment = context.getEnvironment();
+        return environment.getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
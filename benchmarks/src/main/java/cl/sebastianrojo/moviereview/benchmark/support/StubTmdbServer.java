@@ -0,0 +1,158 @@
+package cl.sebastianrojo.moviereview.benchmark.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Servidor HTTP local que imita los endpoints de TMDB usados por TmdbService.
+ * Permite inyectar latencia y una tasa de errores 503 para simular degradación.
+ */
+public final class StubTmdbServer implements AutoCloseable {
+
+    static {
+        // Sin TCP_NODELAY cada respuesta espera el ACK retardado del cliente (~40 ms en loopback),
+        // que oculta el costo real de la ida y vuelta. Se lee al crear el primer HttpServer.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong requests = new AtomicLong();
+    private volatile Duration latency;
+    private volatile double errorRate;
+
+    private StubTmdbServer(Duration latency, double errorRate) throws IOException {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    public static StubTmdbServer start(Duration latency, double errorRate) throws IOException {
+        return new StubTmdbServer(latency, errorRate);
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            if (!latency.isZero()) {
+                Thread.sleep(latency);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            respond(exchange, 503, "{\"status_message\":\"Service unavailable (stub)\"}");
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        String body = switch (path) {
+            case "/movie/popular", "/tv/popular", "/search/movie", "/search/tv" -> searchResponse(path);
+            default -> detailsResponse(path);
+        };
+        if (body == null) {
+            respond(exchange, 404, "{\"status_message\":\"Not found\"}");
+        } else {
+            respond(exchange, 200, body);
+        }
+    }
+
+    private static String searchResponse(String path) {
+        boolean series = path.contains("tv");
+        StringBuilder results = new StringBuilder();
+        for (int i = 1; i <= 20; i++) {
+            if (i > 1) {
+                results.append(',');
+            }
+            results.append(series ? seriesItem(i) : movieItem(i));
+        }
+        return "{\"page\":1,\"results\":[" + results + "],\"total_pages\":500,\"total_results\":10000}";
+    }
+
+    private static String detailsResponse(String path) {
+        String[] parts = path.split("/");
+        if (parts.length != 3) {
+            return null;
+        }
+        long id;
+        try {
+            id = Long.parseLong(parts[2]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return switch (parts[1]) {
+            case "movie" -> """
+                {"id":%d,"title":"Movie %d","original_title":"Movie %d","overview":"Stub overview",
+                 "poster_path":"/poster%d.jpg","backdrop_path":"/backdrop%d.jpg","release_date":"2020-01-01",
+                 "vote_average":7.5,"vote_count":1200,"runtime":120,"genres":[{"id":18,"name":"Drama"}],
+                 "tagline":"Stub","budget":1000000,"revenue":5000000,"status":"Released"}
+                """.formatted(id, id, id, id, id);
+            case "tv" -> """
+                {"id":%d,"name":"Series %d","original_name":"Series %d","overview":"Stub overview",
+                 "poster_path":"/poster%d.jpg","backdrop_path":"/backdrop%d.jpg","first_air_date":"2019-01-01",
+                 "last_air_date":"2021-01-01","vote_average":8.1,"vote_count":900,"number_of_seasons":3,
+                 "number_of_episodes":30,"genres":[{"id":18,"name":"Drama"}],"tagline":"Stub",
+                 "status":"Ended","in_production":false}
+                """.formatted(id, id, id, id, id);
+            default -> null;
+        };
+    }
+
+    private static String movieItem(int id) {
+        return "{\"id\":" + id + ",\"title\":\"Movie " + id + "\",\"original_title\":\"Movie " + id
+                + "\",\"overview\":\"Stub\",\"poster_path\":\"/poster" + id + ".jpg\",\"release_date\":\"2020-01-01\""
+                + ",\"vote_average\":7.5,\"vote_count\":1200}";
+    }
+
+    private static String seriesItem(int id) {
+        return "{\"id\":" + id + ",\"name\":\"Series " + id + "\",\"original_name\":\"Series " + id
+                + "\",\"overview\":\"Stub\",\"poster_path\":\"/poster" + id + ".jpg\",\"first_air_date\":\"2019-01-01\""
+                + ",\"vote_average\":8.1,\"vote_count\":900}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
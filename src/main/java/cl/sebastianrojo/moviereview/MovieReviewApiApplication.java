@@ -2,8 +2,10 @@ package cl.sebastianrojo.moviereview;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class MovieReviewApiApplication {
 
 	public static void main(String[] args) {
@@ -1,65 +1,43 @@
 package cl.sebastianrojo.moviereview.controller;
 
-import java.util.List;
-
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import cl.sebastianrojo.moviereview.dto.AuthRequest;
-import cl.sebastianrojo.moviereview.dto.AuthResponse;
-import cl.sebastianrojo.moviereview.entity.Role;
-import cl.sebastianrojo.moviereview.entity.User;
-import cl.sebastianrojo.moviereview.repository.UserRepository;
-import cl.sebastianrojo.moviereview.security.JwtUtil;
+import cl.sebastianrojo.moviereview.dto.auth.AuthResponse;
+import cl.sebastianrojo.moviereview.dto.auth.LoginRequest;
+import cl.sebastianrojo.moviereview.dto.auth.RegisterRequest;
+import cl.sebastianrojo.moviereview.service.AuthService;
+import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/auth")
 @CrossOrigin(origins = "http://localhost:5173")
 public class AuthController {
 
-    private final AuthenticationManager authenticationManager;
-
-    private final JwtUtil jwtUtil;
-
-    private final UserRepository userRepository;
-
-    private final PasswordEncoder passwordEncoder;
+    private final AuthService authService;
 
-    public AuthController(AuthenticationManager authenticationManager, JwtUtil jwtUtil, UserRepository userRepository, PasswordEncoder passwordEncoder) {
-        this.authenticationManager = authenticationManager;
-        this.jwtUtil = jwtUtil;
-        this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+    public AuthController(AuthService authService) {
+        this.authService = authService;
     }
 
+    /**
+     * POST /api/auth/login - Autentica al usuario y entrega un JWT
+     */
     @PostMapping("/login")
-    public AuthResponse login(@RequestBody AuthRequest request) {
-        Authentication auth = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(request.username(), request.password()));
-        UserDetails userDetails = (UserDetails) auth.getPrincipal();
-        List<String> roles = userDetails.getAuthorities().stream().map(a -> a.getAuthority()).toList();
-        String token = jwtUtil.generateToken(userDetails.getUsername(), roles);
-        return new AuthResponse(token);
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
+        return ResponseEntity.ok(authService.login(request));
     }
 
+    /**
+     * POST /api/auth/register - Registra un usuario y entrega un JWT
+     */
     @PostMapping("/register")
-    public void register(@RequestBody AuthRequest request) {
-        if(userRepository.existsByUsername(request.username())) {
-            throw new RuntimeException("El nombre de usuario ya existe");
-        }
-        User user = new User(
-            request.username(), 
-            passwordEncoder.encode(request.password()), 
-            request.username() + "@mail.com", 
-            Role.USER
-        );
-        userRepository.save(user);
+    public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(authService.register(request));
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,13 @@
 package cl.sebastianrojo.moviereview.controller;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,13 +19,22 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import cl.sebastianrojo.moviereview.dto.review.ContentReviewSummary;
 import cl.sebastianrojo.moviereview.dto.review.CreateReviewRequest;
+import cl.sebastianrojo.moviereview.dto.review.EnrichedReviewResponse;
+import cl.sebastianrojo.moviereview.dto.review.ReviewImportRequest;
+import cl.sebastianrojo.moviereview.dto.review.ReviewImportResult;
 import cl.sebastianrojo.moviereview.dto.review.ReviewResponse;
+import cl.sebastianrojo.moviereview.dto.review.ReviewSort;
 import cl.sebastianrojo.moviereview.dto.review.UpdateReviewRequest;
 import cl.sebastianrojo.moviereview.entity.ContentType;
+import cl.sebastianrojo.moviereview.service.ReviewExportService;
+import cl.sebastianrojo.moviereview.service.ReviewFeedService;
+import cl.sebastianrojo.moviereview.service.ReviewImportService;
 import cl.sebastianrojo.moviereview.service.ReviewService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @RestController
@@ -28,9 +42,20 @@ import jakarta.validation.Valid;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ReviewImportService reviewImportService;
+    private final ReviewExportService reviewExportService;
+    private final ReviewFeedService reviewFeedService;
 
-    public ReviewController(ReviewService reviewService) {
+    public ReviewController(
+            ReviewService reviewService,
+            ReviewImportService reviewImportService,
+            ReviewExportService reviewExportService,
+            ReviewFeedService reviewFeedService
+    ) {
         this.reviewService = reviewService;
+        this.reviewImportService = reviewImportService;
+        this.reviewExportService = reviewExportService;
+        this.reviewFeedService = reviewFeedService;
     }
 
     /**
@@ -45,6 +70,30 @@ public class ReviewController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * PUT /api/reviews/content - Crea o actualiza la review del usuario para un contenido
+     */
+    @PutMapping("/content")
+    public ResponseEntity<ReviewResponse> upsertReview(
+            @Valid @RequestBody CreateReviewRequest request,
+            Authentication authentication
+    ) {
+        ReviewResponse response = reviewService.upsertReview(request, authentication);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * POST /api/reviews/import - Importa reviews en bloque desde sitios asociados (solo admin)
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ReviewImportResult> importReviews(
+            @Valid @RequestBody ReviewImportRequest request,
+            Authentication authentication
+    ) {
+        ReviewImportResult result = reviewImportService.importReviews(request.reviews(), authentication);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * PUT /api/reviews/{id} - Actualiza una review existente
      */
@@ -80,15 +129,19 @@ public class ReviewController {
     }
 
     /**
-     * GET /api/reviews/content - Obtiene reviews y resumen de un contenido
-     * Query params: externalContentId, contentType
+     * GET /api/reviews/content - Obtiene una página de reviews y el resumen de un contenido
+     * Query params: externalContentId, contentType, cursor (opcional), size (opcional), sort (NEWEST | OLDEST)
      */
     @GetMapping("/content")
     public ResponseEntity<ContentReviewSummary> getReviewsByContent(
             @RequestParam String externalContentId,
-            @RequestParam ContentType contentType
+            @RequestParam ContentType contentType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "NEWEST") ReviewSort sort
     ) {
-        ContentReviewSummary summary = reviewService.getReviewsForContent(externalContentId, contentType);
+        ContentReviewSummary summary = reviewService.getReviewsForContent(
+                externalContentId, contentType, cursor, size, sort);
         return ResponseEntity.ok(summary);
     }
 
@@ -101,6 +154,28 @@ public class ReviewController {
         return ResponseEntity.ok(reviews);
     }
 
+    /**
+     * GET /api/reviews/export/user/{username} - Exporta todas las reviews de un usuario (NDJSON)
+     */
+    @GetMapping("/export/user/{username}")
+    public void exportUserReviews(@PathVariable String username, HttpServletResponse response) throws IOException {
+        writeExport(reviewExportService.exportUserReviews(username), "reviews-" + username, response);
+    }
+
+    /**
+     * GET /api/reviews/export/content - Exporta todas las reviews de un contenido (NDJSON)
+     * Query params: externalContentId, contentType
+     */
+    @GetMapping("/export/content")
+    public void exportContentReviews(
+            @RequestParam String externalContentId,
+            @RequestParam ContentType contentType,
+            HttpServletResponse response
+    ) throws IOException {
+        writeExport(reviewExportService.exportContentReviews(externalContentId, contentType),
+                "reviews-" + contentType.name().toLowerCase() + "-" + externalContentId, response);
+    }
+
     /**
      * GET /api/reviews/my - Obtiene las reviews del usuario autenticado
      */
@@ -110,6 +185,24 @@ public class ReviewController {
         return ResponseEntity.ok(reviews);
     }
 
+    /**
+     * GET /api/reviews/my/feed - Reviews del usuario autenticado con título y póster de cada contenido
+     */
+    @GetMapping("/my/feed")
+    public CompletableFuture<ResponseEntity<List<EnrichedReviewResponse>>> getMyFeed(Authentication authentication) {
+        return reviewFeedService.getMyFeed(authentication)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * GET /api/reviews/user/{username}/feed - Reviews de un usuario con título y póster de cada contenido
+     */
+    @GetMapping("/user/{username}/feed")
+    public CompletableFuture<ResponseEntity<List<EnrichedReviewResponse>>> getUserFeed(@PathVariable String username) {
+        return reviewFeedService.getUserFeed(username)
+                .thenApply(ResponseEntity::ok);
+    }
+
     /**
      * GET /api/reviews/check - Verifica si el usuario ya ha dejado una review
      * Query params: externalContentId, contentType
@@ -123,4 +216,13 @@ public class ReviewController {
         boolean hasReviewed = reviewService.hasUserReviewed(externalContentId, contentType, authentication);
         return ResponseEntity.ok(hasReviewed);
     }
-}
\ No newline at end of file
+
+    // Se escribe en el hilo de la petición y no como respuesta asíncrona: una exportación
+    // grande supera spring.mvc.async.request-timeout
+    private void writeExport(StreamingResponseBody body, String fileName, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName + ".ndjson").build().toString());
+        body.writeTo(response.getOutputStream());
+    }
+}
@@ -1,88 +1,120 @@
 package cl.sebastianrojo.moviereview.controller;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbDetailsBatchRequest;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbDetailsBatchResponse;
 import cl.sebastianrojo.moviereview.dto.tmdb.TmdbMovieDetails;
 import cl.sebastianrojo.moviereview.dto.tmdb.TmdbSearchResponse;
 import cl.sebastianrojo.moviereview.dto.tmdb.TmdbSeriesDetails;
+import cl.sebastianrojo.moviereview.service.TmdbBatchService;
 import cl.sebastianrojo.moviereview.service.TmdbService;
+import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/tmdb")
 public class TmdbController {
 
     private final TmdbService tmdbService;
+    private final TmdbBatchService tmdbBatchService;
+    private final ExecutorService tmdbExecutor;
 
-    public TmdbController(TmdbService tmdbService) {
+    public TmdbController(
+            TmdbService tmdbService,
+            TmdbBatchService tmdbBatchService,
+            @Qualifier("tmdbExecutor") ExecutorService tmdbExecutor
+    ) {
         this.tmdbService = tmdbService;
+        this.tmdbBatchService = tmdbBatchService;
+        this.tmdbExecutor = tmdbExecutor;
     }
 
     /**
      * GET /api/tmdb/search/movies - Busca películas
      */
     @GetMapping("/search/movies")
-    public ResponseEntity<TmdbSearchResponse> searchMovies(
+    public CompletableFuture<ResponseEntity<TmdbSearchResponse>> searchMovies(
             @RequestParam String query,
             @RequestParam(required = false) Integer page
     ) {
-        TmdbSearchResponse response = tmdbService.searchMovies(query, page);
-        return ResponseEntity.ok(response);
+        return async(() -> tmdbService.searchMovies(query, page));
     }
 
     /**
      * GET /api/tmdb/search/series - Busca series
      */
     @GetMapping("/search/series")
-    public ResponseEntity<TmdbSearchResponse> searchSeries(
+    public CompletableFuture<ResponseEntity<TmdbSearchResponse>> searchSeries(
             @RequestParam String query,
             @RequestParam(required = false) Integer page
     ) {
-        TmdbSearchResponse response = tmdbService.searchSeries(query, page);
-        return ResponseEntity.ok(response);
+        return async(() -> tmdbService.searchSeries(query, page));
     }
 
     /**
      * GET /api/tmdb/movie/{id} - Obtiene detalles de una película
      */
     @GetMapping("/movie/{id}")
-    public ResponseEntity<TmdbMovieDetails> getMovieDetails(@PathVariable Long id) {
-        TmdbMovieDetails details = tmdbService.getMovieDetails(id);
-        return ResponseEntity.ok(details);
+    public CompletableFuture<ResponseEntity<TmdbMovieDetails>> getMovieDetails(@PathVariable Long id) {
+        return async(() -> tmdbService.getMovieDetails(id));
     }
 
     /**
      * GET /api/tmdb/series/{id} - Obtiene detalles de una serie
      */
     @GetMapping("/series/{id}")
-    public ResponseEntity<TmdbSeriesDetails> getSeriesDetails(@PathVariable Long id) {
-        TmdbSeriesDetails details = tmdbService.getSeriesDetails(id);
-        return ResponseEntity.ok(details);
+    public CompletableFuture<ResponseEntity<TmdbSeriesDetails>> getSeriesDetails(@PathVariable Long id) {
+        return async(() -> tmdbService.getSeriesDetails(id));
+    }
+
+    /**
+     * POST /api/tmdb/details:batch - Obtiene detalles de varias películas y series en una sola petición
+     */
+    @PostMapping("/details:batch")
+    public CompletableFuture<ResponseEntity<TmdbDetailsBatchResponse>> getDetailsBatch(
+            @Valid @RequestBody TmdbDetailsBatchRequest request
+    ) {
+        return tmdbBatchService.getDetails(request.items())
+                .thenApply(ResponseEntity::ok);
     }
 
     /**
      * GET /api/tmdb/popular/movies - Obtiene películas populares
      */
     @GetMapping("/popular/movies")
-    public ResponseEntity<TmdbSearchResponse> getPopularMovies(
+    public CompletableFuture<ResponseEntity<TmdbSearchResponse>> getPopularMovies(
             @RequestParam(required = false) Integer page
     ) {
-        TmdbSearchResponse response = tmdbService.getPopularMovies(page);
-        return ResponseEntity.ok(response);
+        return async(() -> tmdbService.getPopularMovies(page));
     }
 
     /**
      * GET /api/tmdb/popular/series - Obtiene series populares
      */
     @GetMapping("/popular/series")
-    public ResponseEntity<TmdbSearchResponse> getPopularSeries(
+    public CompletableFuture<ResponseEntity<TmdbSearchResponse>> getPopularSeries(
             @RequestParam(required = false) Integer page
     ) {
-        TmdbSearchResponse response = tmdbService.getPopularSeries(page);
-        return ResponseEntity.ok(response);
+        return async(() -> tmdbService.getPopularSeries(page));
+    }
+
+    /**
+     * Ejecuta la llamada a TMDB fuera del hilo de la petición (procesamiento asíncrono del servlet)
+     */
+    private <T> CompletableFuture<ResponseEntity<T>> async(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, tmdbExecutor)
+                .thenApply(ResponseEntity::ok);
     }
 }
\ No newline at end of file
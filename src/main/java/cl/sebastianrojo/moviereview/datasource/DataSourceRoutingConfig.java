@@ -0,0 +1,91 @@
+package cl.sebastianrojo.moviereview.datasource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Enrutamiento de lecturas a réplicas (datasource.routing.enabled=true).
+ * El DataSource de la aplicación es un LazyConnectionDataSourceProxy sobre el primario:
+ * la conexión física se obtiene en la primera sentencia, cuando ya se sabe si la transacción
+ * es de solo lectura, y en ese caso se pide a ReplicaDataSource.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    public ReplicaDataSource replicaDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            DataSourceProperties dataSourceProperties,
+            ReplicaRoutingProperties routingProperties,
+            MeterRegistry meterRegistry
+    ) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (ReplicaRoutingProperties.Replica replica : routingProperties.replicas()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(replica.name());
+            dataSource.setJdbcUrl(replica.url());
+            dataSource.setUsername(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername());
+            dataSource.setPassword(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword());
+            dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+            // Sin esto Hikari espera 30s por conexión antes de que ReplicaDataSource recurra al primario
+            dataSource.setConnectionTimeout(replica.connectionTimeout().toMillis());
+            dataSource.setValidationTimeout(replica.connectionTimeout().toMillis());
+            dataSource.setDataSourceProperties(primaryDataSource.getDataSourceProperties());
+            dataSource.setReadOnly(true);
+            // No bloquear el arranque si una réplica no responde: el chequeo de salud la excluye
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setMetricRegistry(meterRegistry);
+            replicas.put(replica.name(), dataSource);
+        }
+        return new ReplicaDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            @Qualifier("replicaDataSource") ReplicaDataSource replicaDataSource
+    ) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            @Qualifier("replicaDataSource") ReplicaDataSource replicaDataSource,
+            ReplicaRoutingProperties routingProperties,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaHealthMonitor(replicaDataSource, routingProperties, meterRegistry);
+    }
+}
@@ -0,0 +1,91 @@
+package cl.sebastianrojo.moviereview.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * DataSource de solo lectura que reparte las conexiones entre las réplicas disponibles
+ * (round-robin). Si no hay réplicas disponibles o la elegida no entrega conexión,
+ * recurre al primario; la réplica que falla queda fuera hasta el siguiente chequeo de salud.
+ */
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSource.class);
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile List<String> available;
+
+    public ReplicaDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = Map.copyOf(replicas);
+        this.available = List.copyOf(replicas.keySet());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String replica = nextReplica();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replicas.get(replica).getConnection();
+        } catch (SQLException e) {
+            log.warn("Replica {} unavailable, falling back to primary: {}", replica, e.getMessage());
+            markUnavailable(replica);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Las réplicas solo se configuran con sus propias credenciales; con otras se usa el primario
+        return primary.getConnection(username, password);
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public List<String> getAvailableReplicas() {
+        return available;
+    }
+
+    /**
+     * Reemplaza el conjunto de réplicas elegibles (lo actualiza el chequeo de salud)
+     */
+    public void setAvailableReplicas(List<String> available) {
+        this.available = List.copyOf(available);
+    }
+
+    private void markUnavailable(String replica) {
+        available = available.stream().filter(name -> !name.equals(replica)).toList();
+    }
+
+    private String nextReplica() {
+        List<String> current = available;
+        if (current.isEmpty()) {
+            return null;
+        }
+        return current.get(Math.floorMod(next.getAndIncrement(), current.size()));
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package cl.sebastianrojo.moviereview.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Verifica periódicamente cada réplica (conexión válida y retraso de replicación)
+ * y actualiza las réplicas elegibles de ReplicaDataSource.
+ * Una réplica con retraso mayor a max-lag, o con la replicación detenida, deja de recibir lecturas.
+ */
+public class ReplicaHealthMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+    private final ReplicaDataSource replicaDataSource;
+    private final ReplicaRoutingProperties properties;
+    private final Map<String, Long> lagSeconds = new ConcurrentHashMap<>();
+
+    public ReplicaHealthMonitor(
+            ReplicaDataSource replicaDataSource,
+            ReplicaRoutingProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.replicaDataSource = replicaDataSource;
+        this.properties = properties;
+
+        Gauge.builder("datasource.replicas.available", replicaDataSource, ds -> ds.getAvailableReplicas().size())
+                .description("Réplicas de lectura elegibles")
+                .register(meterRegistry);
+        for (String replica : replicaDataSource.getReplicas().keySet()) {
+            Gauge.builder("datasource.replica.lag", lagSeconds, lags -> lags.getOrDefault(replica, -1L))
+                    .description("Retraso de replicación en segundos (-1 si no se pudo medir)")
+                    .baseUnit("seconds")
+                    .tag("replica", replica)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval:5s}")
+    public void check() {
+        List<String> healthy = new ArrayList<>();
+        replicaDataSource.getReplicas().forEach((name, dataSource) -> {
+            if (isHealthy(name, dataSource)) {
+                healthy.add(name);
+            }
+        });
+
+        List<String> previous = replicaDataSource.getAvailableReplicas();
+        if (!previous.containsAll(healthy) || !healthy.containsAll(previous)) {
+            log.info("Available read replicas changed: {} -> {}", previous, healthy);
+        }
+        replicaDataSource.setAvailableReplicas(healthy);
+    }
+
+    private boolean isHealthy(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(2)) {
+                return false;
+            }
+            if (properties.lagQuery() == null || properties.lagQuery().isBlank()) {
+                return true;
+            }
+            Long lag = readLag(connection);
+            lagSeconds.put(name, lag != null ? lag : -1L);
+            if (lag == null) {
+                log.warn("Replica {} is not replicating", name);
+                return false;
+            }
+            return lag <= properties.maxLag().toSeconds();
+        } catch (Exception e) {
+            log.warn("Health check failed for replica {}: {}", name, e.getMessage());
+            lagSeconds.put(name, -1L);
+            return false;
+        }
+    }
+
+    /**
+     * Retraso informado por la réplica; null si la replicación está detenida o no configurada
+     */
+    private Long readLag(Connection connection) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(properties.lagQuery())) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            long lag = resultSet.getLong(properties.lagColumn());
+            return resultSet.wasNull() ? null : lag;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package cl.sebastianrojo.moviereview.datasource;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuración de las réplicas de lectura (datasource.routing.*).
+ * Las credenciales de una réplica, si se omiten, son las de spring.datasource.
+ */
+@ConfigurationProperties("datasource.routing")
+public record ReplicaRoutingProperties(
+    boolean enabled,
+    @DefaultValue("5s") Duration healthCheckInterval,
+    @DefaultValue("10s") Duration maxLag,
+    @DefaultValue("SHOW REPLICA STATUS") String lagQuery,
+    @DefaultValue("Seconds_Behind_Source") String lagColumn,
+    @DefaultValue List<Replica> replicas
+) {
+
+    /**
+     * connectionTimeout acota cuánto espera una lectura por una réplica caída antes de recurrir
+     * al primario (mínimo de Hikari: 250ms); también se usa como timeout de validación
+     */
+    public record Replica(
+        String name,
+        String url,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize,
+        @DefaultValue("1s") Duration connectionTimeout
+    ) {}
+}
@@ -1,6 +1,7 @@
 package cl.sebastianrojo.moviereview.dto.review;
 
 import java.util.List;
+import java.util.Map;
 
 import cl.sebastianrojo.moviereview.entity.ContentType;
 
@@ -9,5 +10,7 @@ public record ContentReviewSummary(
     ContentType contentType,
     long totalReviews,
     double averageRating,
-    List<ReviewResponse> reviews
+    Map<Integer, Long> ratingDistribution,
+    List<ReviewResponse> reviews,
+    String nextCursor
 ) {}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package cl.sebastianrojo.moviereview.dto.review;
+
+/**
+ * Datos de presentación de un contenido reseñado (título y póster)
+ */
+public record ContentSummary(
+    String title,
+    String posterUrl,
+    String releaseDate,
+    Double voteAverage
+) {}
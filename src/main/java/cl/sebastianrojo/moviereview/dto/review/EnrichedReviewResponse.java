@@ -0,0 +1,9 @@
+package cl.sebastianrojo.moviereview.dto.review;
+
+/**
+ * Review junto con el resumen del contenido; content es null si TMDB no pudo entregarlo
+ */
+public record EnrichedReviewResponse(
+    ReviewResponse review,
+    ContentSummary content
+) {}
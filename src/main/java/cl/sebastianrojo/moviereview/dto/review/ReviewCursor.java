@@ -0,0 +1,34 @@
+package cl.sebastianrojo.moviereview.dto.review;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import cl.sebastianrojo.moviereview.exception.BadRequestException;
+
+/**
+ * Posición de paginación por keyset (createdAt, id) serializada como token opaco
+ */
+public record ReviewCursor(
+    LocalDateTime createdAt,
+    Long id
+) {
+    public String encode() {
+        String raw = createdAt + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReviewCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('_');
+            return new ReviewCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.valueOf(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Cursor de paginación inválido");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package cl.sebastianrojo.moviereview.dto.review;
+
+import java.time.LocalDateTime;
+
+import cl.sebastianrojo.moviereview.entity.ContentType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Review proveniente de un sitio asociado. createdAt es opcional: si no se informa
+ * se usa la fecha de importación.
+ */
+public record ReviewImportItem(
+    @NotBlank(message = "El nombre de usuario es obligatorio")
+    String username,
+
+    @NotBlank(message = "El ID del contenido externo es obligatorio")
+    String externalContentId,
+
+    @NotNull(message = "El tipo de contenido es obligatorio")
+    ContentType contentType,
+
+    @Min(value = 1, message = "La calificación mínima es 1")
+    @Max(value = 5, message = "La calificación máxima es 5")
+    int rating,
+
+    @Size(max = 1000, message = "El comentario no puede exceder los 1000 caracteres")
+    String comment,
+
+    @PastOrPresent(message = "La fecha de creación no puede estar en el futuro")
+    LocalDateTime createdAt
+) {}
@@ -0,0 +1,11 @@
+package cl.sebastianrojo.moviereview.dto.review;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+public record ReviewImportRequest(
+    @NotEmpty(message = "La importación debe incluir al menos una review")
+    List<@Valid ReviewImportItem> reviews
+) {}
@@ -0,0 +1,13 @@
+package cl.sebastianrojo.moviereview.dto.review;
+
+/**
+ * Resultado de una importación masiva. Las reviews ya existentes (mismo usuario y contenido)
+ * y las de usuarios desconocidos se omiten, por lo que reintentar una importación es seguro.
+ */
+public record ReviewImportResult(
+    int received,
+    int imported,
+    int duplicates,
+    int unknownUsers,
+    long elapsedMillis
+) {}
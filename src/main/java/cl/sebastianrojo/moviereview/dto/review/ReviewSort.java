@@ -0,0 +1,6 @@
+package cl.sebastianrojo.moviereview.dto.review;
+
+public enum ReviewSort {
+    NEWEST,
+    OLDEST
+}
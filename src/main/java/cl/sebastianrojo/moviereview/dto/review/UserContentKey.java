@@ -0,0 +1,12 @@
+package cl.sebastianrojo.moviereview.dto.review;
+
+import cl.sebastianrojo.moviereview.entity.ContentType;
+
+/**
+ * Clave única de una review (restricción uk_user_content)
+ */
+public record UserContentKey(
+    Long userId,
+    String externalContentId,
+    ContentType contentType
+) {}
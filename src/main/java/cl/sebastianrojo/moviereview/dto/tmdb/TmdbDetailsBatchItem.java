@@ -0,0 +1,18 @@
+package cl.sebastianrojo.moviereview.dto.tmdb;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import cl.sebastianrojo.moviereview.entity.ContentType;
+
+/**
+ * Resultado de un contenido dentro de un lote: movie o series según el tipo,
+ * o error si ese contenido no se pudo obtener
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TmdbDetailsBatchItem(
+    ContentType contentType,
+    Long id,
+    TmdbMovieDetails movie,
+    TmdbSeriesDetails series,
+    String error
+) {}
@@ -0,0 +1,13 @@
+package cl.sebastianrojo.moviereview.dto.tmdb;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record TmdbDetailsBatchRequest(
+    @NotEmpty(message = "Debe indicar al menos un contenido")
+    @Size(max = 50, message = "Se pueden pedir como máximo 50 contenidos por lote")
+    List<@Valid TmdbDetailsRef> items
+) {}
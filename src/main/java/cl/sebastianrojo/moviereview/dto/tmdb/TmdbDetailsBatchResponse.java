@@ -0,0 +1,7 @@
+package cl.sebastianrojo.moviereview.dto.tmdb;
+
+import java.util.List;
+
+public record TmdbDetailsBatchResponse(
+    List<TmdbDetailsBatchItem> items
+) {}
@@ -0,0 +1,14 @@
+package cl.sebastianrojo.moviereview.dto.tmdb;
+
+import cl.sebastianrojo.moviereview.entity.ContentType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record TmdbDetailsRef(
+    @NotNull(message = "El tipo de contenido es obligatorio")
+    ContentType contentType,
+
+    @NotNull(message = "El ID de TMDB es obligatorio")
+    @Positive(message = "El ID de TMDB debe ser positivo")
+    Long id
+) {}
@@ -0,0 +1,91 @@
+package cl.sebastianrojo.moviereview.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * Datos de presentación de un contenido de TMDB guardados localmente.
+ * Permite mostrar el contenido reseñado sin llamar a TMDB; title es null cuando
+ * TMDB no encontró el contenido.
+ */
+@Entity
+@Table(name = "content_catalog")
+public class ContentCatalogEntry {
+
+    @EmbeddedId
+    private ContentKey id;
+
+    private String title;
+
+    @Column(name = "poster_path")
+    private String posterPath;
+
+    @Column(name = "release_date", length = 10)
+    private String releaseDate;
+
+    @Column(name = "vote_average")
+    private Double voteAverage;
+
+    @Column(name = "vote_count")
+    private Integer voteCount;
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+
+    public ContentCatalogEntry() {}
+
+    public ContentCatalogEntry(
+            ContentKey id,
+            String title,
+            String posterPath,
+            String releaseDate,
+            Double voteAverage,
+            Integer voteCount,
+            LocalDateTime fetchedAt
+    ) {
+        this.id = id;
+        this.title = title;
+        this.posterPath = posterPath;
+        this.releaseDate = releaseDate;
+        this.voteAverage = voteAverage;
+        this.voteCount = voteCount;
+        this.fetchedAt = fetchedAt;
+    }
+
+    public boolean isFound() {
+        return title != null;
+    }
+
+    // Getters
+    public ContentKey getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getPosterPath() {
+        return posterPath;
+    }
+
+    public String getReleaseDate() {
+        return releaseDate;
+    }
+
+    public Double getVoteAverage() {
+        return voteAverage;
+    }
+
+    public Integer getVoteCount() {
+        return voteCount;
+    }
+
+    public LocalDateTime getFetchedAt() {
+        return fetchedAt;
+    }
+}
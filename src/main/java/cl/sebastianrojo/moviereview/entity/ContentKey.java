@@ -0,0 +1,60 @@
+package cl.sebastianrojo.moviereview.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+/**
+ * Identifica un contenido externo (película o serie de TMDB)
+ */
+@Embeddable
+public class ContentKey implements Serializable {
+
+    @Column(name = "external_content_id", nullable = false, length = 100)
+    private String externalContentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_type", nullable = false, length = 20)
+    private ContentType contentType;
+
+    protected ContentKey() {}
+
+    public ContentKey(String externalContentId, ContentType contentType) {
+        this.externalContentId = externalContentId;
+        this.contentType = contentType;
+    }
+
+    public String getExternalContentId() {
+        return externalContentId;
+    }
+
+    public ContentType getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ContentKey other)) {
+            return false;
+        }
+        return Objects.equals(externalContentId, other.externalContentId)
+                && contentType == other.contentType;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(externalContentId, contentType);
+    }
+
+    @Override
+    public String toString() {
+        return contentType + ":" + externalContentId;
+    }
+}
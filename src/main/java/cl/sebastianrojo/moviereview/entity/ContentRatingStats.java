@@ -0,0 +1,103 @@
+package cl.sebastianrojo.moviereview.entity;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * Agregado materializado de calificaciones por contenido.
+ * Se mantiene en la misma transacción que crea, edita o elimina reviews.
+ */
+@Entity
+@Table(name = "content_rating_stats")
+public class ContentRatingStats {
+
+    @EmbeddedId
+    private ContentKey id;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "stars_1", nullable = false)
+    private long stars1;
+
+    @Column(name = "stars_2", nullable = false)
+    private long stars2;
+
+    @Column(name = "stars_3", nullable = false)
+    private long stars3;
+
+    @Column(name = "stars_4", nullable = false)
+    private long stars4;
+
+    @Column(name = "stars_5", nullable = false)
+    private long stars5;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ContentRatingStats() {}
+
+    public ContentRatingStats(ContentKey id) {
+        this.id = id;
+    }
+
+    public double getAverageRating() {
+        return reviewCount > 0 ? (double) ratingSum / reviewCount : 0.0;
+    }
+
+    public Map<Integer, Long> getRatingDistribution() {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        distribution.put(1, stars1);
+        distribution.put(2, stars2);
+        distribution.put(3, stars3);
+        distribution.put(4, stars4);
+        distribution.put(5, stars5);
+        return distribution;
+    }
+
+    // Getters
+    public ContentKey getId() {
+        return id;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public long getRatingSum() {
+        return ratingSum;
+    }
+
+    public long getStars1() {
+        return stars1;
+    }
+
+    public long getStars2() {
+        return stars2;
+    }
+
+    public long getStars3() {
+        return stars3;
+    }
+
+    public long getStars4() {
+        return stars4;
+    }
+
+    public long getStars5() {
+        return stars5;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
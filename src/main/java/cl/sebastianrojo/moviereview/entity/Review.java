@@ -10,10 +10,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
@@ -24,11 +26,24 @@ import jakarta.persistence.UniqueConstraint;
                name = "uk_user_content",
                columnNames = {"user_id", "external_content_id", "content_type"}
            )
+       },
+       indexes = {
+           @Index(
+               name = "idx_reviews_content_created",
+               columnList = "external_content_id, content_type, created_at, id"
+           ),
+           @Index(
+               name = "idx_reviews_user_created",
+               columnList = "user_id, created_at"
+           )
        })
 public class Review {
     
+    // Ids asignados por bloques de 50 para permitir inserciones JDBC en lote
+    // (en MySQL Hibernate emula la secuencia con la tabla reviews_seq)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_seq")
+    @SequenceGenerator(name = "review_seq", sequenceName = "reviews_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "external_content_id", nullable = false, length = 100)
@@ -58,7 +73,10 @@ public class Review {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // Las reviews importadas conservan su fecha original
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
         updatedAt = createdAt;
     }
 
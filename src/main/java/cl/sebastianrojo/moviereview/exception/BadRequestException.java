@@ -0,0 +1,7 @@
+package cl.sebastianrojo.moviereview.exception;
+
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,83 @@
+package cl.sebastianrojo.moviereview.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import cl.sebastianrojo.moviereview.entity.ContentCatalogEntry;
+import cl.sebastianrojo.moviereview.entity.ContentKey;
+
+@Repository
+public interface ContentCatalogRepository extends JpaRepository<ContentCatalogEntry, ContentKey> {
+
+    /**
+     * Entradas de varios contenidos en una sola consulta (findAllById consulta una por una con clave compuesta)
+     */
+    @Query("SELECT c FROM ContentCatalogEntry c WHERE c.id IN :ids")
+    List<ContentCatalogEntry> findByIds(@Param("ids") Collection<ContentKey> ids);
+
+    /**
+     * Inserta o reemplaza los datos de un contenido
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO content_catalog
+            (external_content_id, content_type, title, poster_path, release_date,
+             vote_average, vote_count, fetched_at)
+        VALUES
+            (:externalContentId, :contentType, :title, :posterPath, :releaseDate,
+             :voteAverage, :voteCount, :now)
+        ON DUPLICATE KEY UPDATE
+            title = VALUES(title),
+            poster_path = VALUES(poster_path),
+            release_date = VALUES(release_date),
+            vote_average = VALUES(vote_average),
+            vote_count = VALUES(vote_count),
+            fetched_at = VALUES(fetched_at)
+        """, nativeQuery = true)
+    int upsert(
+        @Param("externalContentId") String externalContentId,
+        @Param("contentType") String contentType,
+        @Param("title") String title,
+        @Param("posterPath") String posterPath,
+        @Param("releaseDate") String releaseDate,
+        @Param("voteAverage") Double voteAverage,
+        @Param("voteCount") Integer voteCount,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Marca un contenido como consultado sin cambiar sus datos; si no existe queda
+     * registrado como no encontrado (title NULL)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO content_catalog (external_content_id, content_type, fetched_at)
+        VALUES (:externalContentId, :contentType, :now)
+        ON DUPLICATE KEY UPDATE fetched_at = VALUES(fetched_at)
+        """, nativeQuery = true)
+    int markFetched(
+        @Param("externalContentId") String externalContentId,
+        @Param("contentType") String contentType,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Contenidos con reviews que aún no están en el catálogo o cuyos datos son anteriores a staleBefore
+     */
+    @Query("""
+        SELECT s.id FROM ContentRatingStats s
+        WHERE s.reviewCount > 0
+          AND NOT EXISTS (
+              SELECT c.id FROM ContentCatalogEntry c
+              WHERE c.id = s.id AND c.fetchedAt >= :staleBefore)
+        """)
+    List<ContentKey> findReviewedKeysToRefresh(@Param("staleBefore") LocalDateTime staleBefore, Limit limit);
+}
@@ -0,0 +1,114 @@
+package cl.sebastianrojo.moviereview.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import cl.sebastianrojo.moviereview.entity.ContentKey;
+import cl.sebastianrojo.moviereview.entity.ContentRatingStats;
+
+@Repository
+public interface ContentRatingStatsRepository extends JpaRepository<ContentRatingStats, ContentKey> {
+
+    /**
+     * Suma (delta > 0) o resta (delta < 0) calificaciones al agregado del contenido,
+     * creando la fila si aún no existe. Es atómico a nivel de fila; los contadores nunca
+     * quedan negativos aunque el agregado esté desfasado respecto de reviews.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO content_rating_stats
+            (external_content_id, content_type, review_count, rating_sum,
+             stars_1, stars_2, stars_3, stars_4, stars_5, updated_at)
+        VALUES
+            (:externalContentId, :contentType, GREATEST(0, :delta), GREATEST(0, :rating * :delta),
+             CASE WHEN :rating = 1 THEN GREATEST(0, :delta) ELSE 0 END,
+             CASE WHEN :rating = 2 THEN GREATEST(0, :delta) ELSE 0 END,
+             CASE WHEN :rating = 3 THEN GREATEST(0, :delta) ELSE 0 END,
+             CASE WHEN :rating = 4 THEN GREATEST(0, :delta) ELSE 0 END,
+             CASE WHEN :rating = 5 THEN GREATEST(0, :delta) ELSE 0 END,
+             :now)
+        ON DUPLICATE KEY UPDATE
+            review_count = GREATEST(0, review_count + :delta),
+            rating_sum = GREATEST(0, rating_sum + :rating * :delta),
+            stars_1 = GREATEST(0, stars_1 + CASE WHEN :rating = 1 THEN :delta ELSE 0 END),
+            stars_2 = GREATEST(0, stars_2 + CASE WHEN :rating = 2 THEN :delta ELSE 0 END),
+            stars_3 = GREATEST(0, stars_3 + CASE WHEN :rating = 3 THEN :delta ELSE 0 END),
+            stars_4 = GREATEST(0, stars_4 + CASE WHEN :rating = 4 THEN :delta ELSE 0 END),
+            stars_5 = GREATEST(0, stars_5 + CASE WHEN :rating = 5 THEN :delta ELSE 0 END),
+            updated_at = :now
+        """, nativeQuery = true)
+    int applyDelta(
+        @Param("externalContentId") String externalContentId,
+        @Param("contentType") String contentType,
+        @Param("rating") int rating,
+        @Param("delta") int delta,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Página de claves a reconciliar posteriores a (externalContentId, contentType), en orden de clave:
+     * los contenidos con reviews (tengan o no fila de agregado) y los agregados sin reviews.
+     * Cada rama se limita antes de la unión, así cada página lee a lo más 2 × limit claves por índice.
+     */
+    @Query(value = """
+        SELECT external_content_id, content_type FROM (
+            (SELECT DISTINCT external_content_id, content_type FROM reviews
+             WHERE (external_content_id, content_type) > (:externalContentId, :contentType)
+             ORDER BY external_content_id, content_type
+             LIMIT :limit)
+            UNION
+            (SELECT external_content_id, content_type FROM content_rating_stats
+             WHERE (external_content_id, content_type) > (:externalContentId, :contentType)
+             ORDER BY external_content_id, content_type
+             LIMIT :limit)
+        ) k
+        ORDER BY external_content_id, content_type
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Object[]> findKeysToReconcileAfter(
+        @Param("externalContentId") String externalContentId,
+        @Param("contentType") String contentType,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Recalcula el agregado de un contenido desde sus reviews en una sola sentencia.
+     * La lectura de reviews bloquea sus filas, de modo que las reviews en curso del mismo
+     * contenido se aplican antes o después del recálculo, nunca se pierden.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO content_rating_stats
+            (external_content_id, content_type, review_count, rating_sum,
+             stars_1, stars_2, stars_3, stars_4, stars_5, updated_at)
+        SELECT :externalContentId, :contentType, COUNT(*), COALESCE(SUM(rating), 0),
+               COALESCE(SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END), 0),
+               COALESCE(SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END), 0),
+               COALESCE(SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END), 0),
+               COALESCE(SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END), 0),
+               COALESCE(SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END), 0),
+               :now
+        FROM reviews
+        WHERE external_content_id = :externalContentId AND content_type = :contentType
+        ON DUPLICATE KEY UPDATE
+            review_count = VALUES(review_count),
+            rating_sum = VALUES(rating_sum),
+            stars_1 = VALUES(stars_1),
+            stars_2 = VALUES(stars_2),
+            stars_3 = VALUES(stars_3),
+            stars_4 = VALUES(stars_4),
+            stars_5 = VALUES(stars_5),
+            updated_at = VALUES(updated_at)
+        """, nativeQuery = true)
+    int rebuild(
+        @Param("externalContentId") String externalContentId,
+        @Param("contentType") String contentType,
+        @Param("now") LocalDateTime now
+    );
+}
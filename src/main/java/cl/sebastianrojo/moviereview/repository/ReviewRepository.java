@@ -1,15 +1,26 @@
 package cl.sebastianrojo.moviereview.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import cl.sebastianrojo.moviereview.dto.review.ReviewResponse;
+import cl.sebastianrojo.moviereview.dto.review.UserContentKey;
 import cl.sebastianrojo.moviereview.entity.ContentType;
 import cl.sebastianrojo.moviereview.entity.Review;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
@@ -25,6 +36,130 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
         ContentType contentType
     );
 
+    // ===== Proyecciones a ReviewResponse (una sola consulta, sin cargar User por fila) =====
+
+    @Query("""
+        SELECT new cl.sebastianrojo.moviereview.dto.review.ReviewResponse(
+            r.id, u.username, r.externalContentId, r.contentType,
+            r.rating, r.comment, r.createdAt, r.updatedAt)
+        FROM Review r JOIN r.user u
+        WHERE r.id = :id
+        """)
+    Optional<ReviewResponse> findResponseById(@Param("id") Long id);
+
+    @Query("""
+        SELECT new cl.sebastianrojo.moviereview.dto.review.ReviewResponse(
+            r.id, u.username, r.externalContentId, r.contentType,
+            r.rating, r.comment, r.createdAt, r.updatedAt)
+        FROM Review r JOIN r.user u
+        WHERE u.username = :username
+        ORDER BY r.createdAt DESC, r.id DESC
+        """)
+    List<ReviewResponse> findResponsesByUsername(@Param("username") String username);
+
+    @Query("""
+        SELECT new cl.sebastianrojo.moviereview.dto.review.ReviewResponse(
+            r.id, u.username, r.externalContentId, r.contentType,
+            r.rating, r.comment, r.createdAt, r.updatedAt)
+        FROM Review r JOIN r.user u
+        WHERE u.id = :userId
+        ORDER BY r.createdAt DESC, r.id DESC
+        """)
+    List<ReviewResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    // ===== Exportación (streaming; deben consumirse dentro de una transacción y cerrarse) =====
+    // Con useCursorFetch=true en la URL de MySQL, el fetch size hace que el driver lea
+    // las filas por bloques desde un cursor del servidor en vez de cargar todo el resultado.
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT new cl.sebastianrojo.moviereview.dto.review.ReviewResponse(
+            r.id, u.username, r.externalContentId, r.contentType,
+            r.rating, r.comment, r.createdAt, r.updatedAt)
+        FROM Review r JOIN r.user u
+        WHERE u.username = :username
+        ORDER BY r.createdAt DESC, r.id DESC
+        """)
+    Stream<ReviewResponse> streamResponsesByUsername(@Param("username") String username);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT new cl.sebastianrojo.moviereview.dto.review.ReviewResponse(
+            r.id, u.username, r.externalContentId, r.contentType,
+            r.rating, r.comment, r.createdAt, r.updatedAt)
+        FROM Review r JOIN r.user u
+        WHERE r.externalContentId = :externalContentId AND r.contentType = :contentType
+        ORDER BY r.createdAt DESC, r.id DESC
+        """)
+    Stream<ReviewResponse> streamResponsesByContent(
+        @Param("externalContentId") String externalContentId,
+        @Param("contentType") ContentType contentType
+    );
+
+    // ===== Paginación por keyset (createdAt, id) =====
+
+    @Query("""
+        SELECT new cl.sebastianrojo.moviereview.dto.review.ReviewResponse(
+            r.id, u.username, r.externalContentId, r.contentType,
+            r.rating, r.comment, r.createdAt, r.updatedAt)
+        FROM Review r JOIN r.user u
+        WHERE r.externalContentId = :externalContentId AND r.contentType = :contentType
+        ORDER BY r.createdAt DESC, r.id DESC
+        """)
+    List<ReviewResponse> findContentPageNewest(
+        @Param("externalContentId") String externalContentId,
+        @Param("contentType") ContentType contentType,
+        Limit limit
+    );
+
+    @Query("""
+        SELECT new cl.sebastianrojo.moviereview.dto.review.ReviewResponse(
+            r.id, u.username, r.externalContentId, r.contentType,
+            r.rating, r.comment, r.createdAt, r.updatedAt)
+        FROM Review r JOIN r.user u
+        WHERE r.externalContentId = :externalContentId AND r.contentType = :contentType
+          AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+        ORDER BY r.createdAt DESC, r.id DESC
+        """)
+    List<ReviewResponse> findContentPageNewestAfter(
+        @Param("externalContentId") String externalContentId,
+        @Param("contentType") ContentType contentType,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    @Query("""
+        SELECT new cl.sebastianrojo.moviereview.dto.review.ReviewResponse(
+            r.id, u.username, r.externalContentId, r.contentType,
+            r.rating, r.comment, r.createdAt, r.updatedAt)
+        FROM Review r JOIN r.user u
+        WHERE r.externalContentId = :externalContentId AND r.contentType = :contentType
+        ORDER BY r.createdAt ASC, r.id ASC
+        """)
+    List<ReviewResponse> findContentPageOldest(
+        @Param("externalContentId") String externalContentId,
+        @Param("contentType") ContentType contentType,
+        Limit limit
+    );
+
+    @Query("""
+        SELECT new cl.sebastianrojo.moviereview.dto.review.ReviewResponse(
+            r.id, u.username, r.externalContentId, r.contentType,
+            r.rating, r.comment, r.createdAt, r.updatedAt)
+        FROM Review r JOIN r.user u
+        WHERE r.externalContentId = :externalContentId AND r.contentType = :contentType
+          AND (r.createdAt > :createdAt OR (r.createdAt = :createdAt AND r.id > :id))
+        ORDER BY r.createdAt ASC, r.id ASC
+        """)
+    List<ReviewResponse> findContentPageOldestAfter(
+        @Param("externalContentId") String externalContentId,
+        @Param("contentType") ContentType contentType,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit
+    );
+
     List<Review> findByUserId(Long userId);
 
     List<Review> findByUserIdOrderByCreatedAtDesc(Long userId);
@@ -39,4 +174,43 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
         String externalContentId, 
         ContentType contentType
     );
-}
\ No newline at end of file
+
+    // ===== Lecturas con bloqueo para escrituras =====
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Review r WHERE r.id = :id")
+    Optional<Review> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT r FROM Review r
+        WHERE r.user.id = :userId
+          AND r.externalContentId = :externalContentId
+          AND r.contentType = :contentType
+        """)
+    Optional<Review> findByUserAndContentForUpdate(
+        @Param("userId") Long userId,
+        @Param("externalContentId") String externalContentId,
+        @Param("contentType") ContentType contentType
+    );
+
+    // ===== Importación masiva =====
+
+    /**
+     * Claves de las reviews existentes de un conjunto de usuarios sobre un conjunto de contenidos.
+     * Devuelve un superconjunto de las claves de un bloque (usuarios × contenidos), acotado por
+     * el bloque y no por el historial completo de cada usuario; se resuelve con rangos del
+     * índice uk_user_content.
+     */
+    @Query("""
+        SELECT new cl.sebastianrojo.moviereview.dto.review.UserContentKey(
+            r.user.id, r.externalContentId, r.contentType)
+        FROM Review r
+        WHERE r.user.id IN :userIds
+          AND r.externalContentId IN :externalContentIds
+        """)
+    List<UserContentKey> findKeysByUserIdsAndContentIds(
+        @Param("userIds") Collection<Long> userIds,
+        @Param("externalContentIds") Collection<String> externalContentIds
+    );
+}
@@ -1,5 +1,7 @@
 package cl.sebastianrojo.moviereview.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,6 +14,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     Optional<User> findByUsername(String username);
 
+    List<User> findByUsernameIn(Collection<String> usernames);
+
     Optional<User> findByEmail(String email);
 
     boolean existsByUsername(String username);
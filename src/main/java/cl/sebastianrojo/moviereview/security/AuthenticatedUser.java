@@ -0,0 +1,18 @@
+package cl.sebastianrojo.moviereview.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * Principal de las peticiones autenticadas con JWT. Lleva el id del usuario
+ * para no tener que buscarlo por username en cada petición.
+ */
+public record AuthenticatedUser(
+    Long id,
+    String username
+) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
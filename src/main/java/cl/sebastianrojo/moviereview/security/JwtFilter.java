@@ -23,6 +23,16 @@ public class JwtFilter extends OncePerRequestFilter {
         this.jwtUtil = jwtUtil;
     }
 
+    /**
+     * Los endpoints que devuelven CompletableFuture se completan en un segundo despacho ASYNC,
+     * que vuelve a pasar por la autorización sin el SecurityContext del primero: el token se
+     * verifica de nuevo (desde la caché de JwtUtil).
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -35,18 +45,21 @@ public class JwtFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
 
-            if (jwtUtil.isTokenValid(token)) {
-                String username = jwtUtil.getUsername(token);
-                List<SimpleGrantedAuthority> authorities = jwtUtil.getRoles(token)
+            jwtUtil.verify(token).ifPresent(verified -> {
+                List<SimpleGrantedAuthority> authorities = verified.roles()
                         .stream()
                         .map(SimpleGrantedAuthority::new)
                         .toList();
 
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(username, null, authorities);
+                        new UsernamePasswordAuthenticationToken(
+                                new AuthenticatedUser(verified.userId(), verified.username()),
+                                null,
+                                authorities
+                        );
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+            });
         }
 
         filterChain.doFilter(request, response);
@@ -1,14 +1,26 @@
 package cl.sebastianrojo.moviereview.security;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -17,53 +29,106 @@ import io.jsonwebtoken.security.Keys;
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private static final String USER_ID_CLAIM = "uid";
+
+    private final long expirationMillis;
+    private final Key signingKey;
+    private final JwtParser parser;
+
+    // Tokens ya verificados, indexados por su hash SHA-256 y vigentes hasta su "exp"
+    // (null con jwt.cache.maximum-size = 0: cada verificación recalcula la firma)
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    @Value("${jwt.expiration}")
-    private long expirationMillis;
+    public JwtUtil(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.expiration}") long expirationMillis,
+            @Value("${jwt.cache.maximum-size:10000}") long cacheMaximumSize
+    ) {
+        this.expirationMillis = expirationMillis;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedTokens = cacheMaximumSize <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+                    }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
-    public String generateToken(String username, List<String> roles) {
+    public String generateToken(Long userId, String username, List<String> roles) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + expirationMillis);
 
         return Jwts.builder()
                 .setSubject(username)
+                .claim(USER_ID_CLAIM, userId)
                 .claim("roles", roles)
                 .setIssuedAt(now)
                 .setExpiration(expiration)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Verifica el token una sola vez y devuelve sus datos; las verificaciones
+     * siguientes del mismo token se resuelven desde la caché hasta que expire.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+        String cacheKey = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<VerifiedToken> verified = parse(token);
+        verified.ifPresent(value -> verifiedTokens.put(cacheKey, value));
+        return verified;
     }
 
-    public String getUsername(String token) {
-        return getClaims(token).getSubject();
+    private Optional<VerifiedToken> parse(String token) {
+        try {
+            return Optional.of(toVerifiedToken(parser.parseClaimsJws(token).getBody()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     @SuppressWarnings("unchecked")
-    public List<String> getRoles(String token) {
-        return getClaims(token).get("roles", List.class);
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        List<String> roles = claims.get("roles", List.class);
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(
+                claims.get(USER_ID_CLAIM, Long.class),
+                claims.getSubject(),
+                roles != null ? List.copyOf(roles) : List.of(),
+                expiration != null ? expiration.toInstant() : Instant.now()
+        );
     }
 
-    public boolean isTokenValid(String token) {
+    private static String hash(String token) {
         try {
-            getClaims(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -40,7 +41,7 @@ public class SecurityConfig {
                 // Endpoints públicos
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/tmdb/**").permitAll()
-                .requestMatchers("/api/reviews/content").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/reviews/content").permitAll()
                 .requestMatchers("/api/reviews/user/**").permitAll()
                 // Endpoints protegidos
                 .anyRequest().authenticated()
@@ -0,0 +1,14 @@
+package cl.sebastianrojo.moviereview.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Datos de un JWT cuya firma y expiración ya fueron verificadas
+ */
+public record VerifiedToken(
+    Long userId,
+    String username,
+    List<String> roles,
+    Instant expiresAt
+) {}
@@ -56,8 +56,8 @@ public class AuthService {
         // Crear nuevo usuario
         User user = new User(
             request.username(),
-            request.email(),
             passwordEncoder.encode(request.password()),
+            request.email(),
             Role.USER
         );
 
@@ -65,6 +65,7 @@ public class AuthService {
 
         // Generar token JWT
         String token = jwtUtil.generateToken(
+            user.getId(),
             user.getUsername(),
             List.of("ROLE_" + user.getRole().name())
         );
@@ -100,7 +101,7 @@ public class AuthService {
                 .map(authority -> authority.getAuthority())
                 .toList();
 
-        String token = jwtUtil.generateToken(userDetails.getUsername(), roles);
+        String token = jwtUtil.generateToken(user.getId(), userDetails.getUsername(), roles);
 
         return new AuthResponse(
             token,
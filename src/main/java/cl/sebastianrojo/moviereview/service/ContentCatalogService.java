@@ -0,0 +1,273 @@
+package cl.sebastianrojo.moviereview.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbDetailsBatchItem;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbDetailsBatchResponse;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbDetailsRef;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbMovieDetails;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbSeriesDetails;
+import cl.sebastianrojo.moviereview.entity.ContentCatalogEntry;
+import cl.sebastianrojo.moviereview.entity.ContentKey;
+import cl.sebastianrojo.moviereview.entity.ContentType;
+import cl.sebastianrojo.moviereview.exception.ExternalApiException;
+import cl.sebastianrojo.moviereview.repository.ContentCatalogRepository;
+import cl.sebastianrojo.moviereview.tmdb.TmdbRequestPriority;
+
+/**
+ * Catálogo local de los contenidos reseñados (título, póster, fecha y votos).
+ * Las lecturas se resuelven contra la base de datos; lo que falta se pide a TMDB una vez
+ * y se guarda, y una tarea periódica refresca los contenidos con reviews cuyos datos
+ * vencieron. Si TMDB no está disponible se siguen sirviendo los datos guardados.
+ */
+@Service
+public class ContentCatalogService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentCatalogService.class);
+
+    private final ContentCatalogRepository catalogRepository;
+    private final TmdbService tmdbService;
+    private final TmdbBatchService tmdbBatchService;
+    private final ExecutorService tmdbExecutor;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration maxAge;
+    private final int lazyFetchMaxItems;
+    private final int refreshBatchSize;
+
+    public ContentCatalogService(
+            ContentCatalogRepository catalogRepository,
+            TmdbService tmdbService,
+            TmdbBatchService tmdbBatchService,
+            @Qualifier("tmdbExecutor") ExecutorService tmdbExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${catalog.max-age:7d}") Duration maxAge,
+            @Value("${catalog.lazy-fetch.max-items:50}") int lazyFetchMaxItems,
+            @Value("${catalog.refresh.batch-size:200}") int refreshBatchSize
+    ) {
+        this.catalogRepository = catalogRepository;
+        this.tmdbService = tmdbService;
+        this.tmdbBatchService = tmdbBatchService;
+        this.tmdbExecutor = tmdbExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxAge = maxAge;
+        this.lazyFetchMaxItems = lazyFetchMaxItems;
+        this.refreshBatchSize = refreshBatchSize;
+    }
+
+    /**
+     * Entradas del catálogo para los contenidos pedidos. Los que no están guardados se piden
+     * a TMDB en un solo lote (hasta catalog.lazy-fetch.max-items por llamada) y se guardan;
+     * los que TMDB no conoce se registran como consultados y los que fallaron por otra causa
+     * quedan fuera del resultado y los completa el refresco periódico.
+     */
+    public CompletableFuture<Map<ContentKey, ContentCatalogEntry>> getEntries(Collection<ContentKey> keys) {
+        Map<ContentKey, ContentCatalogEntry> entries = new HashMap<>();
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(entries);
+        }
+        readOnlyTransaction.executeWithoutResult(status ->
+                catalogRepository.findByIds(keys).forEach(entry -> entries.put(entry.getId(), entry)));
+
+        List<TmdbDetailsRef> missing = keys.stream()
+                .filter(key -> !entries.containsKey(key))
+                .map(ContentCatalogService::toRef)
+                .filter(ref -> ref != null)
+                .distinct()
+                .limit(lazyFetchMaxItems)
+                .toList();
+        if (missing.isEmpty()) {
+            return CompletableFuture.completedFuture(entries);
+        }
+
+        // allOf del lote se completa en el hilo del timeout (completeOnTimeout); el guardado va al
+        // ejecutor de TMDB. supplyAsync dentro de thenCompose (y no thenApplyAsync) para que un
+        // rechazo del ejecutor acotado complete el futuro con error en vez de dejarlo pendiente.
+        return tmdbBatchService.getDetails(missing).thenCompose(batch ->
+                CompletableFuture.supplyAsync(() -> store(batch, entries), tmdbExecutor));
+    }
+
+    /**
+     * Refresca los contenidos con reviews que no están en el catálogo o cuyos datos vencieron.
+     * Las llamadas son secuenciales y de prioridad BACKGROUND para mantener un ritmo bajo y
+     * constante contra TMDB; si TMDB falla se deja el resto para la siguiente ejecución.
+     * El trabajo corre en el ejecutor de TMDB: las esperas del limitador pueden durar minutos
+     * y no deben ocupar el hilo del scheduler, que comparten el chequeo de réplicas y la
+     * reconciliación de agregados. Una ejecución no empieza mientras siga en curso la anterior.
+     */
+    @Scheduled(
+            fixedDelayString = "${catalog.refresh.interval:15m}",
+            initialDelayString = "${catalog.refresh.initial-delay:1m}")
+    public void refreshReviewedContent() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            tmdbExecutor.execute(() -> {
+                try {
+                    TmdbRequestPriority.runInBackground(this::refreshStaleEntries);
+                } catch (RuntimeException e) {
+                    log.warn("Content catalog refresh failed: {}", e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+            log.warn("Content catalog refresh skipped: {}", e.getMessage());
+        }
+    }
+
+    private void refreshStaleEntries() {
+        List<ContentKey> keys = catalogRepository.findReviewedKeysToRefresh(
+                LocalDateTime.now().minus(maxAge), Limit.of(refreshBatchSize));
+        int refreshed = 0;
+        int notFound = 0;
+        for (ContentKey key : keys) {
+            try {
+                ContentCatalogEntry entry = fetch(key);
+                if (entry != null) {
+                    transactionTemplate.executeWithoutResult(status -> save(entry));
+                    refreshed++;
+                } else {
+                    markNotFound(key);
+                    notFound++;
+                }
+            } catch (ExternalApiException e) {
+                if (!TmdbBatchService.isNotFound(e)) {
+                    log.warn("Content catalog refresh stopped after {} of {} titles: {}", refreshed, keys.size(), e.getMessage());
+                    return;
+                }
+                markNotFound(key);
+                notFound++;
+            }
+        }
+        if (!keys.isEmpty()) {
+            log.info("Content catalog refreshed: {} titles updated, {} not found in TMDB", refreshed, notFound);
+        }
+    }
+
+    // ===== Métodos auxiliares =====
+
+    /**
+     * Guarda lo obtenido en un lote y registra como consultados los contenidos que TMDB no conoce
+     */
+    private Map<ContentKey, ContentCatalogEntry> store(TmdbDetailsBatchResponse batch, Map<ContentKey, ContentCatalogEntry> entries) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ContentCatalogEntry> fetched = new ArrayList<>();
+        List<ContentKey> notFound = new ArrayList<>();
+        for (TmdbDetailsBatchItem item : batch.items()) {
+            ContentCatalogEntry entry = toEntry(item, now);
+            if (entry != null) {
+                fetched.add(entry);
+            } else if (TmdbBatchService.isNotFound(item)) {
+                notFound.add(new ContentKey(String.valueOf(item.id()), item.contentType()));
+            }
+        }
+        if (!fetched.isEmpty() || !notFound.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                fetched.forEach(this::save);
+                notFound.forEach(key -> catalogRepository.markFetched(
+                        key.getExternalContentId(), key.getContentType().name(), now));
+            });
+            fetched.forEach(entry -> entries.put(entry.getId(), entry));
+        }
+        return entries;
+    }
+
+    private ContentCatalogEntry fetch(ContentKey key) {
+        TmdbDetailsRef ref = toRef(key);
+        if (ref == null) {
+            return null;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return key.getContentType() == ContentType.MOVIE
+                ? toEntry(key, tmdbService.getMovieDetails(ref.id()), now)
+                : toEntry(key, tmdbService.getSeriesDetails(ref.id()), now);
+    }
+
+    private void save(ContentCatalogEntry entry) {
+        catalogRepository.upsert(
+                entry.getId().getExternalContentId(),
+                entry.getId().getContentType().name(),
+                entry.getTitle(),
+                entry.getPosterPath(),
+                entry.getReleaseDate(),
+                entry.getVoteAverage(),
+                entry.getVoteCount(),
+                entry.getFetchedAt());
+    }
+
+    /**
+     * Registra la consulta sin borrar datos guardados, para no volver a pedir el contenido hasta que venza
+     */
+    private void markNotFound(ContentKey key) {
+        transactionTemplate.executeWithoutResult(status -> catalogRepository.markFetched(
+                key.getExternalContentId(), key.getContentType().name(), LocalDateTime.now()));
+    }
+
+    private static ContentCatalogEntry toEntry(TmdbDetailsBatchItem item, LocalDateTime now) {
+        ContentKey key = new ContentKey(String.valueOf(item.id()), item.contentType());
+        if (item.movie() != null) {
+            return toEntry(key, item.movie(), now);
+        }
+        if (item.series() != null) {
+            return toEntry(key, item.series(), now);
+        }
+        return null;
+    }
+
+    private static ContentCatalogEntry toEntry(ContentKey key, TmdbMovieDetails details, LocalDateTime now) {
+        if (details == null) {
+            return null;
+        }
+        return new ContentCatalogEntry(key, details.title(), details.posterPath(),
+                blankToNull(details.releaseDate()), details.voteAverage(), details.voteCount(), now);
+    }
+
+    private static ContentCatalogEntry toEntry(ContentKey key, TmdbSeriesDetails details, LocalDateTime now) {
+        if (details == null) {
+            return null;
+        }
+        return new ContentCatalogEntry(key, details.name(), details.posterPath(),
+                blankToNull(details.firstAirDate()), details.voteAverage(), details.voteCount(), now);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    /**
+     * Referencia a TMDB de un contenido; null si externalContentId no es un id numérico de TMDB
+     */
+    private static TmdbDetailsRef toRef(ContentKey key) {
+        try {
+            return new TmdbDetailsRef(key.getContentType(), Long.parseLong(key.getExternalContentId()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
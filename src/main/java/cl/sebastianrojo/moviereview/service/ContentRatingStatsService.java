@@ -0,0 +1,155 @@
+package cl.sebastianrojo.moviereview.service;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import cl.sebastianrojo.moviereview.entity.ContentKey;
+import cl.sebastianrojo.moviereview.entity.ContentRatingStats;
+import cl.sebastianrojo.moviereview.entity.ContentType;
+import cl.sebastianrojo.moviereview.repository.ContentRatingStatsRepository;
+
+@Service
+public class ContentRatingStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentRatingStatsService.class);
+
+    private static final String RECONCILE_LOCK = "content_rating_stats_reconcile";
+
+    private final ContentRatingStatsRepository statsRepository;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final int reconcileBatchSize;
+
+    public ContentRatingStatsService(
+            ContentRatingStatsRepository statsRepository,
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Value("${reviews.stats.reconcile-batch-size:500}") int reconcileBatchSize
+    ) {
+        this.statsRepository = statsRepository;
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    /**
+     * Obtiene el agregado de un contenido (vacío si aún no tiene reviews)
+     */
+    @Transactional(readOnly = true)
+    public ContentRatingStats getStats(String externalContentId, ContentType contentType) {
+        ContentKey key = new ContentKey(externalContentId, contentType);
+        return statsRepository.findById(key)
+                .orElseGet(() -> new ContentRatingStats(key));
+    }
+
+    /**
+     * Registra una nueva calificación. Debe ejecutarse dentro de la transacción de la review.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRating(String externalContentId, ContentType contentType, int rating) {
+        statsRepository.applyDelta(externalContentId, contentType.name(), rating, 1, LocalDateTime.now());
+    }
+
+    /**
+     * Registra varias calificaciones iguales de una sola vez (importación masiva)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRatings(String externalContentId, ContentType contentType, int rating, int count) {
+        statsRepository.applyDelta(externalContentId, contentType.name(), rating, count, LocalDateTime.now());
+    }
+
+    /**
+     * Descuenta una calificación eliminada
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeRating(String externalContentId, ContentType contentType, int rating) {
+        statsRepository.applyDelta(externalContentId, contentType.name(), rating, -1, LocalDateTime.now());
+    }
+
+    /**
+     * Reemplaza una calificación por otra en el agregado
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void changeRating(String externalContentId, ContentType contentType, int oldRating, int newRating) {
+        if (oldRating == newRating) {
+            return;
+        }
+        removeRating(externalContentId, contentType, oldRating);
+        recordRating(externalContentId, contentType, newRating);
+    }
+
+    /**
+     * Recalcula los agregados desde la tabla reviews para corregir cualquier desvío: recrea
+     * las filas que faltan para contenidos con reviews y deja en cero las que ya no tienen.
+     * Corre en una sola instancia a la vez (lock con nombre de MySQL) y recorre los contenidos
+     * por clave, cada uno en su propia transacción corta, sin vaciar la tabla.
+     */
+    @Scheduled(cron = "${reviews.stats.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!tryLock(lockConnection)) {
+                log.info("Rating stats reconciliation skipped: running on another instance");
+                return;
+            }
+            try {
+                int rebuilt = rebuildAll();
+                log.info("Rating stats reconciled for {} titles", rebuilt);
+            } finally {
+                releaseLock(lockConnection);
+            }
+        } catch (SQLException e) {
+            log.warn("Rating stats reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    private int rebuildAll() {
+        int rebuilt = 0;
+        String lastId = "";
+        String lastType = "";
+        while (true) {
+            List<Object[]> keys = statsRepository.findKeysToReconcileAfter(lastId, lastType, reconcileBatchSize);
+            for (Object[] key : keys) {
+                String externalContentId = (String) key[0];
+                String contentType = (String) key[1];
+                transactionTemplate.executeWithoutResult(status ->
+                        statsRepository.rebuild(externalContentId, contentType, LocalDateTime.now()));
+                rebuilt++;
+            }
+            if (keys.size() < reconcileBatchSize) {
+                return rebuilt;
+            }
+            Object[] last = keys.get(keys.size() - 1);
+            lastId = (String) last[0];
+            lastType = (String) last[1];
+        }
+    }
+
+    private static boolean tryLock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT GET_LOCK('" + RECONCILE_LOCK + "', 0)")) {
+            return result.next() && result.getInt(1) == 1;
+        }
+    }
+
+    private static void releaseLock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DO RELEASE_LOCK('" + RECONCILE_LOCK + "')");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package cl.sebastianrojo.moviereview.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import cl.sebastianrojo.moviereview.dto.review.ReviewResponse;
+import cl.sebastianrojo.moviereview.entity.ContentType;
+import cl.sebastianrojo.moviereview.exception.ResourceNotFoundException;
+import cl.sebastianrojo.moviereview.repository.ReviewRepository;
+import cl.sebastianrojo.moviereview.repository.UserRepository;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Exportación de reviews en NDJSON (una ReviewResponse por línea).
+ * Las filas se leen con un Stream de la base y se escriben a medida que llegan,
+ * por lo que la memoria usada no depende del tamaño de la exportación.
+ */
+@Service
+public class ReviewExportService {
+
+    private final ReviewRepository reviewRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter writer;
+
+    public ReviewExportService(
+            ReviewRepository reviewRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            JsonMapper jsonMapper
+    ) {
+        this.reviewRepository = reviewRepository;
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writer = jsonMapper.writerFor(ReviewResponse.class);
+    }
+
+    /**
+     * Exportación de todas las reviews de un usuario. Valida el usuario antes de empezar a escribir.
+     */
+    public StreamingResponseBody exportUserReviews(String username) {
+        if (!userRepository.existsByUsername(username)) {
+            throw new ResourceNotFoundException("Usuario no encontrado");
+        }
+        return out -> write(out, () -> reviewRepository.streamResponsesByUsername(username));
+    }
+
+    /**
+     * Exportación de todas las reviews de un contenido
+     */
+    public StreamingResponseBody exportContentReviews(String externalContentId, ContentType contentType) {
+        return out -> write(out, () -> reviewRepository.streamResponsesByContent(externalContentId, contentType));
+    }
+
+    private void write(OutputStream out, Supplier<Stream<ReviewResponse>> query) throws IOException {
+        try {
+            // El Stream mantiene la conexión abierta: debe consumirse y cerrarse dentro de la transacción
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ReviewResponse> reviews = query.get()) {
+                    reviews.forEach(review -> writeLine(out, review));
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    private void writeLine(OutputStream out, ReviewResponse review) {
+        try {
+            out.write(writer.writeValueAsBytes(review));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package cl.sebastianrojo.moviereview.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import cl.sebastianrojo.moviereview.dto.review.ContentSummary;
+import cl.sebastianrojo.moviereview.dto.review.EnrichedReviewResponse;
+import cl.sebastianrojo.moviereview.dto.review.ReviewResponse;
+import cl.sebastianrojo.moviereview.entity.ContentCatalogEntry;
+import cl.sebastianrojo.moviereview.entity.ContentKey;
+
+/**
+ * Reviews acompañadas del título y póster de cada contenido, para que el cliente
+ * no tenga que pedir a TMDB un detalle por review. Los datos salen del catálogo local;
+ * solo los contenidos que aún no están guardados se piden a TMDB, en un solo lote.
+ */
+@Service
+public class ReviewFeedService {
+
+    private final ReviewService reviewService;
+    private final ContentCatalogService catalogService;
+    private final TmdbService tmdbService;
+
+    public ReviewFeedService(ReviewService reviewService, ContentCatalogService catalogService, TmdbService tmdbService) {
+        this.reviewService = reviewService;
+        this.catalogService = catalogService;
+        this.tmdbService = tmdbService;
+    }
+
+    /**
+     * Reviews del usuario autenticado con el resumen de cada contenido
+     */
+    public CompletableFuture<List<EnrichedReviewResponse>> getMyFeed(Authentication authentication) {
+        return enrich(reviewService.getMyReviews(authentication));
+    }
+
+    /**
+     * Reviews de un usuario con el resumen de cada contenido
+     */
+    public CompletableFuture<List<EnrichedReviewResponse>> getUserFeed(String username) {
+        return enrich(reviewService.getUserReviews(username));
+    }
+
+    private CompletableFuture<List<EnrichedReviewResponse>> enrich(List<ReviewResponse> reviews) {
+        List<ContentKey> keys = reviews.stream()
+                .map(ReviewFeedService::toKey)
+                .distinct()
+                .toList();
+
+        return catalogService.getEntries(keys).thenApply(entries -> reviews.stream()
+                .map(review -> new EnrichedReviewResponse(review, toSummary(entries, review)))
+                .toList());
+    }
+
+    private ContentSummary toSummary(Map<ContentKey, ContentCatalogEntry> entries, ReviewResponse review) {
+        ContentCatalogEntry entry = entries.get(toKey(review));
+        if (entry == null || !entry.isFound()) {
+            return null;
+        }
+        return new ContentSummary(
+                entry.getTitle(),
+                tmdbService.buildPosterUrl(entry.getPosterPath()),
+                entry.getReleaseDate(),
+                entry.getVoteAverage());
+    }
+
+    private static ContentKey toKey(ReviewResponse review) {
+        return new ContentKey(review.externalContentId(), review.contentType());
+    }
+}
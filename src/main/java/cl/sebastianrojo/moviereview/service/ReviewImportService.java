@@ -0,0 +1,158 @@
+package cl.sebastianrojo.moviereview.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import cl.sebastianrojo.moviereview.dto.review.ReviewImportItem;
+import cl.sebastianrojo.moviereview.dto.review.ReviewImportResult;
+import cl.sebastianrojo.moviereview.dto.review.UserContentKey;
+import cl.sebastianrojo.moviereview.entity.ContentKey;
+import cl.sebastianrojo.moviereview.entity.Review;
+import cl.sebastianrojo.moviereview.entity.User;
+import cl.sebastianrojo.moviereview.exception.BadRequestException;
+import cl.sebastianrojo.moviereview.exception.UnauthorizedAccessException;
+import cl.sebastianrojo.moviereview.repository.ReviewRepository;
+import cl.sebastianrojo.moviereview.repository.UserRepository;
+
+/**
+ * Importación masiva de reviews desde sitios asociados.
+ * Procesa la entrada en bloques, cada uno en su propia transacción: los usuarios y las reviews
+ * existentes se resuelven con una consulta por bloque, las inserciones salen en lotes JDBC
+ * (ids por secuencia, hibernate.jdbc.batch_size) y el agregado se actualiza una vez por
+ * contenido y calificación.
+ */
+@Service
+public class ReviewImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewImportService.class);
+
+    private final ReviewRepository reviewRepository;
+    private final UserRepository userRepository;
+    private final ContentRatingStatsService statsService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public ReviewImportService(
+            ReviewRepository reviewRepository,
+            UserRepository userRepository,
+            ContentRatingStatsService statsService,
+            PlatformTransactionManager transactionManager,
+            @Value("${reviews.import.chunk-size:1000}") int chunkSize,
+            @Value("${reviews.import.max-items:100000}") int maxItems
+    ) {
+        this.reviewRepository = reviewRepository;
+        this.userRepository = userRepository;
+        this.statsService = statsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Importa las reviews omitiendo duplicados y usuarios inexistentes.
+     * Los bloques ya confirmados se mantienen si uno posterior falla; como los duplicados
+     * se omiten, basta con reintentar la importación completa. Solo para administradores.
+     */
+    public ReviewImportResult importReviews(List<ReviewImportItem> items, Authentication authentication) {
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
+        if (!admin) {
+            throw new UnauthorizedAccessException("Solo un administrador puede importar reviews");
+        }
+        if (items.size() > maxItems) {
+            throw new BadRequestException("La importación admite como máximo " + maxItems + " reviews por petición");
+        }
+        long start = System.nanoTime();
+
+        ChunkResult total = new ChunkResult();
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            List<ReviewImportItem> chunk = items.subList(from, Math.min(from + chunkSize, items.size()));
+            ChunkResult result = transactionTemplate.execute(status -> importChunk(chunk));
+            total.add(result);
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Review import: {} received, {} imported, {} duplicates, {} unknown users in {} ms",
+                items.size(), total.imported, total.duplicates, total.unknownUsers, elapsedMillis);
+        return new ReviewImportResult(items.size(), total.imported, total.duplicates, total.unknownUsers, elapsedMillis);
+    }
+
+    private ChunkResult importChunk(List<ReviewImportItem> chunk) {
+        ChunkResult result = new ChunkResult();
+
+        Set<String> usernames = chunk.stream().map(ReviewImportItem::username).collect(Collectors.toSet());
+        Map<String, Long> userIds = userRepository.findByUsernameIn(usernames).stream()
+                .collect(Collectors.toMap(User::getUsername, User::getId));
+
+        // Claves ya presentes en la base para los usuarios y contenidos del bloque; se amplía con
+        // las del propio bloque para omitir repetidos
+        Set<String> contentIds = chunk.stream().map(ReviewImportItem::externalContentId).collect(Collectors.toSet());
+        Set<UserContentKey> existing = userIds.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(reviewRepository.findKeysByUserIdsAndContentIds(userIds.values(), contentIds));
+
+        List<Review> reviews = new ArrayList<>(chunk.size());
+        Map<ContentKey, int[]> ratingCounts = new HashMap<>();
+        for (ReviewImportItem item : chunk) {
+            Long userId = userIds.get(item.username());
+            if (userId == null) {
+                result.unknownUsers++;
+                continue;
+            }
+            if (!existing.add(new UserContentKey(userId, item.externalContentId(), item.contentType()))) {
+                result.duplicates++;
+                continue;
+            }
+
+            Review review = new Review();
+            review.setExternalContentId(item.externalContentId());
+            review.setContentType(item.contentType());
+            review.setRating(item.rating());
+            review.setComment(item.comment());
+            review.setCreatedAt(item.createdAt());
+            review.setUser(userRepository.getReferenceById(userId));
+            reviews.add(review);
+
+            ratingCounts.computeIfAbsent(new ContentKey(item.externalContentId(), item.contentType()), key -> new int[6])
+                    [item.rating()]++;
+        }
+
+        reviewRepository.saveAll(reviews);
+        result.imported = reviews.size();
+
+        ratingCounts.forEach((content, counts) -> {
+            for (int rating = 1; rating <= 5; rating++) {
+                if (counts[rating] > 0) {
+                    statsService.recordRatings(content.getExternalContentId(), content.getContentType(), rating, counts[rating]);
+                }
+            }
+        });
+        return result;
+    }
+
+    private static final class ChunkResult {
+        private int imported;
+        private int duplicates;
+        private int unknownUsers;
+
+        private void add(ChunkResult other) {
+            imported += other.imported;
+            duplicates += other.duplicates;
+            unknownUsers += other.unknownUsers;
+        }
+    }
+}
@@ -1,17 +1,26 @@
 package cl.sebastianrojo.moviereview.service;
 
 import cl.sebastianrojo.moviereview.dto.review.*;
+import cl.sebastianrojo.moviereview.entity.ContentRatingStats;
 import cl.sebastianrojo.moviereview.entity.ContentType;
 import cl.sebastianrojo.moviereview.entity.Review;
 import cl.sebastianrojo.moviereview.entity.User;
+import cl.sebastianrojo.moviereview.exception.BadRequestException;
 import cl.sebastianrojo.moviereview.exception.DuplicateResourceException;
 import cl.sebastianrojo.moviereview.exception.ResourceNotFoundException;
 import cl.sebastianrojo.moviereview.exception.UnauthorizedAccessException;
 import cl.sebastianrojo.moviereview.repository.ReviewRepository;
 import cl.sebastianrojo.moviereview.repository.UserRepository;
+import cl.sebastianrojo.moviereview.security.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
@@ -20,30 +29,35 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
+    private final ContentRatingStatsService statsService;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
-    public ReviewService(ReviewRepository reviewRepository, UserRepository userRepository) {
+    public ReviewService(
+            ReviewRepository reviewRepository,
+            UserRepository userRepository,
+            ContentRatingStatsService statsService,
+            PlatformTransactionManager transactionManager,
+            @Value("${reviews.page.default-size:20}") int defaultPageSize,
+            @Value("${reviews.page.max-size:100}") int maxPageSize
+    ) {
         this.reviewRepository = reviewRepository;
         this.userRepository = userRepository;
+        this.statsService = statsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
     /**
-     * Crea una nueva review
+     * Crea una nueva review.
+     * Inserta directamente y delega la detección de duplicados en la restricción uk_user_content.
      */
     @Transactional
     public ReviewResponse createReview(CreateReviewRequest request, Authentication authentication) {
         // Obtener usuario autenticado
-        User user = getUserFromAuthentication(authentication);
-
-        // Validar que no exista una review previa del mismo usuario para este contenido
-        reviewRepository.findByUserIdAndExternalContentIdAndContentType(
-                user.getId(),
-                request.externalContentId(),
-                request.contentType()
-        ).ifPresent(existingReview -> {
-            throw new DuplicateResourceException(
-                "Ya existe una reseña tuya para este contenido. Puedes editarla o eliminarla."
-            );
-        });
+        Long userId = getUserIdFromAuthentication(authentication);
 
         // Crear nueva review
         Review review = new Review();
@@ -51,124 +65,166 @@ public class ReviewService {
         review.setContentType(request.contentType());
         review.setRating(request.rating());
         review.setComment(request.comment());
-        review.setUser(user);
+        review.setUser(userRepository.getReferenceById(userId));
 
-        Review savedReview = reviewRepository.save(review);
+        Review savedReview;
+        try {
+            savedReview = reviewRepository.saveAndFlush(review);
+        } catch (DataIntegrityViolationException e) {
+            if (isUserContentConflict(e)) {
+                throw new DuplicateResourceException(
+                    "Ya existe una reseña tuya para este contenido. Puedes editarla o eliminarla."
+                );
+            }
+            throw e;
+        }
+        statsService.recordRating(savedReview.getExternalContentId(), savedReview.getContentType(), savedReview.getRating());
 
-        return mapToResponse(savedReview);
+        return mapToResponse(savedReview, authentication.getName());
     }
 
     /**
-     * Actualiza una review existente
+     * Crea o actualiza la review del usuario autenticado para un contenido (idempotente).
+     * Si no hay fila, dos peticiones concurrentes pueden intentar insertar la misma review
+     * (el bloqueo de la lectura solo cubre el hueco del índice): la perdedora choca con
+     * uk_user_content o es elegida víctima del deadlock, y se reintenta una vez en una
+     * transacción nueva, donde la fila ya existe y se actualiza.
+     */
+    public ReviewResponse upsertReview(CreateReviewRequest request, Authentication authentication) {
+        Long userId = getUserIdFromAuthentication(authentication);
+
+        try {
+            return transactionTemplate.execute(status -> upsertOnce(userId, request, authentication));
+        } catch (DuplicateResourceException | PessimisticLockingFailureException e) {
+            return transactionTemplate.execute(status -> upsertOnce(userId, request, authentication));
+        }
+    }
+
+    /**
+     * Actualiza una review existente.
+     * Lee la fila con bloqueo (distingue no encontrada / sin permiso y entrega la calificación
+     * anterior para el agregado); el bloqueo se mantiene hasta el UPDATE al confirmar.
      */
     @Transactional
     public ReviewResponse updateReview(Long reviewId, UpdateReviewRequest request, Authentication authentication) {
-        Review review = reviewRepository.findById(reviewId)
+        Long userId = getUserIdFromAuthentication(authentication);
+
+        Review review = reviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException("Review no encontrada"));
 
-        // Verificar que el usuario sea el propietario
-        User user = getUserFromAuthentication(authentication);
-        if (!review.getUser().getId().equals(user.getId())) {
+        // Verificar que el usuario sea el propietario (getUser().getId() no inicializa el proxy)
+        if (!review.getUser().getId().equals(userId)) {
             throw new UnauthorizedAccessException("No tienes permiso para editar esta review");
         }
 
-        // Actualizar campos si están presentes
-        if (request.rating() != null) {
-            review.setRating(request.rating());
-        }
-        if (request.comment() != null) {
-            review.setComment(request.comment());
-        }
-
-        Review updatedReview = reviewRepository.save(review);
-        return mapToResponse(updatedReview);
+        return applyUpdate(review, request.rating(), request.comment(), authentication);
     }
 
     /**
-     * Elimina una review
+     * Elimina una review (propietario o admin). La fila se lee con bloqueo para verificar el permiso
+     * y obtener la calificación que se descuenta del agregado.
      */
     @Transactional
     public void deleteReview(Long reviewId, Authentication authentication) {
-        Review review = reviewRepository.findById(reviewId)
+        Long userId = getUserIdFromAuthentication(authentication);
+        boolean admin = isAdmin(authentication);
+
+        Review review = reviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException("Review no encontrada"));
 
         // Verificar que el usuario sea el propietario o admin
-        User user = getUserFromAuthentication(authentication);
-        if (!review.getUser().getId().equals(user.getId()) && !isAdmin(authentication)) {
+        if (!review.getUser().getId().equals(userId) && !admin) {
             throw new UnauthorizedAccessException("No tienes permiso para eliminar esta review");
         }
 
         reviewRepository.delete(review);
+        statsService.removeRating(review.getExternalContentId(), review.getContentType(), review.getRating());
     }
 
     /**
      * Obtiene una review por ID
      */
+    @Transactional(readOnly = true)
     public ReviewResponse getReviewById(Long reviewId) {
-        Review review = reviewRepository.findById(reviewId)
+        return reviewRepository.findResponseById(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException("Review no encontrada"));
-        return mapToResponse(review);
     }
 
     /**
-     * Obtiene todas las reviews de un contenido específico con resumen
+     * Obtiene una página de reviews de un contenido con su resumen.
+     * La paginación es por keyset (createdAt, id): el cursor apunta a la última review devuelta.
      */
-    public ContentReviewSummary getReviewsForContent(String externalContentId, ContentType contentType) {
-        List<Review> reviews = reviewRepository.findByExternalContentIdAndContentType(
-                externalContentId,
-                contentType
-        );
+    @Transactional(readOnly = true)
+    public ContentReviewSummary getReviewsForContent(
+            String externalContentId,
+            ContentType contentType,
+            String cursor,
+            Integer size,
+            ReviewSort sort
+    ) {
+        int pageSize = resolvePageSize(size);
+        ReviewCursor after = cursor != null && !cursor.isBlank() ? ReviewCursor.decode(cursor) : null;
 
-        List<ReviewResponse> reviewResponses = reviews.stream()
-                .map(this::mapToResponse)
-                .toList();
+        // Se pide un elemento extra para saber si existe una página siguiente
+        List<ReviewResponse> reviewResponses = findContentPage(
+                externalContentId, contentType, after, sort, Limit.of(pageSize + 1));
+        boolean hasMore = reviewResponses.size() > pageSize;
+        if (hasMore) {
+            reviewResponses = reviewResponses.subList(0, pageSize);
+        }
 
-        // Calcular rating promedio
-        double averageRating = reviewRepository.calculateAverageRating(externalContentId, contentType)
-                .orElse(0.0);
+        String nextCursor = null;
+        if (hasMore) {
+            ReviewResponse last = reviewResponses.get(reviewResponses.size() - 1);
+            nextCursor = new ReviewCursor(last.createdAt(), last.id()).encode();
+        }
 
-        long totalReviews = reviews.size();
+        // Resumen desde el agregado materializado (lectura por clave primaria)
+        ContentRatingStats stats = statsService.getStats(externalContentId, contentType);
 
         return new ContentReviewSummary(
                 externalContentId,
                 contentType,
-                totalReviews,
-                averageRating,
-                reviewResponses
+                stats.getReviewCount(),
+                stats.getAverageRating(),
+                stats.getRatingDistribution(),
+                reviewResponses,
+                nextCursor
         );
     }
 
     /**
      * Obtiene todas las reviews de un usuario
      */
+    @Transactional(readOnly = true)
     public List<ReviewResponse> getUserReviews(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado"));
+        List<ReviewResponse> reviews = reviewRepository.findResponsesByUsername(username);
 
-        return reviewRepository.findByUserIdOrderByCreatedAtDesc(user.getId())
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        // Solo se consulta el usuario para distinguir "sin reviews" de "no existe"
+        if (reviews.isEmpty() && !userRepository.existsByUsername(username)) {
+            throw new ResourceNotFoundException("Usuario no encontrado");
+        }
+        return reviews;
     }
 
     /**
-     * Obtiene las reviews del usuario autenticado
+     * Obtiene las reviews del usuario autenticado.
+     * Transacción de escritura a propósito: se lee del primario para que el usuario vea
+     * de inmediato sus propios cambios (las réplicas pueden ir atrasadas).
      */
+    @Transactional
     public List<ReviewResponse> getMyReviews(Authentication authentication) {
-        User user = getUserFromAuthentication(authentication);
-        return reviewRepository.findByUserIdOrderByCreatedAtDesc(user.getId())
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return reviewRepository.findResponsesByUserId(getUserIdFromAuthentication(authentication));
     }
 
     /**
-     * Verifica si el usuario ya ha dejado una review para un contenido
+     * Verifica si el usuario ya ha dejado una review para un contenido.
+     * Se lee del primario (transacción de escritura) para reflejar una review recién creada.
      */
+    @Transactional
     public boolean hasUserReviewed(String externalContentId, ContentType contentType, Authentication authentication) {
-        User user = getUserFromAuthentication(authentication);
         return reviewRepository.findByUserIdAndExternalContentIdAndContentType(
-                user.getId(),
+                getUserIdFromAuthentication(authentication),
                 externalContentId,
                 contentType
         ).isPresent();
@@ -176,9 +232,83 @@ public class ReviewService {
 
     // ===== Métodos auxiliares =====
 
-    private User getUserFromAuthentication(Authentication authentication) {
+    private ReviewResponse upsertOnce(Long userId, CreateReviewRequest request, Authentication authentication) {
+        return reviewRepository.findByUserAndContentForUpdate(userId, request.externalContentId(), request.contentType())
+                .map(review -> applyUpdate(review, request.rating(), request.comment(), authentication))
+                .orElseGet(() -> createReview(request, authentication));
+    }
+
+    /**
+     * Aplica los cambios sobre una review ya leída con bloqueo y con el permiso verificado
+     */
+    private ReviewResponse applyUpdate(
+            Review review,
+            Integer rating,
+            String comment,
+            Authentication authentication
+    ) {
+        int oldRating = review.getRating();
+        if (rating != null) {
+            review.setRating(rating);
+        }
+        if (comment != null) {
+            review.setComment(comment);
+        }
+        // flush ejecuta @PreUpdate, que fija updatedAt para la respuesta
+        reviewRepository.flush();
+
+        if (rating != null) {
+            statsService.changeRating(review.getExternalContentId(), review.getContentType(), oldRating, rating);
+        }
+
+        return mapToResponse(review, authentication.getName());
+    }
+
+    private boolean isUserContentConflict(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains("uk_user_content");
+    }
+
+    private List<ReviewResponse> findContentPage(
+            String externalContentId,
+            ContentType contentType,
+            ReviewCursor after,
+            ReviewSort sort,
+            Limit limit
+    ) {
+        if (sort == ReviewSort.OLDEST) {
+            return after == null
+                    ? reviewRepository.findContentPageOldest(externalContentId, contentType, limit)
+                    : reviewRepository.findContentPageOldestAfter(
+                            externalContentId, contentType, after.createdAt(), after.id(), limit);
+        }
+        return after == null
+                ? reviewRepository.findContentPageNewest(externalContentId, contentType, limit)
+                : reviewRepository.findContentPageNewestAfter(
+                        externalContentId, contentType, after.createdAt(), after.id(), limit);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new BadRequestException("El tamaño de página debe ser mayor que 0");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * Obtiene el id del usuario autenticado desde el principal del JWT.
+     * Solo consulta la base de datos para tokens emitidos antes de incluir el claim "uid".
+     */
+    private Long getUserIdFromAuthentication(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal && principal.id() != null) {
+            return principal.id();
+        }
         String username = authentication.getName();
         return userRepository.findByUsername(username)
+                .map(User::getId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado"));
     }
 
@@ -187,10 +317,10 @@ public class ReviewService {
                 .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
     }
 
-    private ReviewResponse mapToResponse(Review review) {
+    private ReviewResponse mapToResponse(Review review, String username) {
         return new ReviewResponse(
                 review.getId(),
-                review.getUser().getUsername(),
+                username,
                 review.getExternalContentId(),
                 review.getContentType(),
                 review.getRating(),
@@ -0,0 +1,177 @@
+package cl.sebastianrojo.moviereview.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbDetailsBatchItem;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbDetailsBatchResponse;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbDetailsRef;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbMovieDetails;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbSeriesDetails;
+import cl.sebastianrojo.moviereview.entity.ContentType;
+import cl.sebastianrojo.moviereview.exception.BadRequestException;
+
+/**
+ * Detalles de varias películas y series en una sola petición.
+ * Los contenidos en caché se responden de inmediato; el resto se consulta en paralelo
+ * sobre el ejecutor de TMDB con un máximo de tareas enviadas a la vez por lote.
+ */
+@Service
+public class TmdbBatchService {
+
+    private static final String NOT_FOUND_ERROR = "Contenido no encontrado en TMDB";
+
+    private final TmdbService tmdbService;
+    private final ExecutorService tmdbExecutor;
+    private final int maxItems;
+    private final int parallelism;
+    private final Duration timeout;
+
+    public TmdbBatchService(
+            TmdbService tmdbService,
+            @Qualifier("tmdbExecutor") ExecutorService tmdbExecutor,
+            @Value("${tmdb.batch.max-items:50}") int maxItems,
+            @Value("${tmdb.batch.parallelism:8}") int parallelism,
+            @Value("${tmdb.batch.timeout:10s}") Duration timeout
+    ) {
+        this.tmdbService = tmdbService;
+        this.tmdbExecutor = tmdbExecutor;
+        this.maxItems = maxItems;
+        this.parallelism = parallelism;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Obtiene los detalles en el orden pedido (sin repetidos). Un contenido que falla o no
+     * responde dentro del timeout del lote se informa con error sin afectar al resto.
+     * Del lote solo hay como máximo tmdb.batch.parallelism tareas enviadas al ejecutor a la vez:
+     * cada una, al terminar, envía el siguiente contenido pendiente, de modo que un lote no
+     * ocupa más cupos del ejecutor compartido que los que realmente trabajan.
+     */
+    public CompletableFuture<TmdbDetailsBatchResponse> getDetails(List<TmdbDetailsRef> refs) {
+        List<TmdbDetailsRef> distinct = new ArrayList<>(new LinkedHashSet<>(refs));
+        if (distinct.size() > maxItems) {
+            throw new BadRequestException("Se pueden pedir como máximo " + maxItems + " contenidos por lote");
+        }
+
+        Map<TmdbDetailsRef, CompletableFuture<TmdbDetailsBatchItem>> results = new LinkedHashMap<>();
+        Queue<TmdbDetailsRef> pending = new ConcurrentLinkedQueue<>();
+        for (TmdbDetailsRef ref : distinct) {
+            TmdbDetailsBatchItem cached = fromCache(ref);
+            if (cached != null) {
+                results.put(ref, CompletableFuture.completedFuture(cached));
+            } else {
+                results.put(ref, new CompletableFuture<>());
+                pending.add(ref);
+            }
+        }
+
+        CompletableFuture<Void> batch = CompletableFuture.allOf(results.values().toArray(CompletableFuture[]::new))
+                .completeOnTimeout(null, timeout.toMillis(), TimeUnit.MILLISECONDS);
+        for (int i = 0; i < parallelism; i++) {
+            submitNext(pending, results, batch);
+        }
+
+        return batch.thenApply(ignored -> new TmdbDetailsBatchResponse(results.entrySet().stream()
+                .map(entry -> collect(entry.getKey(), entry.getValue()))
+                .toList()));
+    }
+
+    /**
+     * Envía al ejecutor el siguiente contenido pendiente del lote. Si el ejecutor está lleno,
+     * ese contenido se informa con error y se intenta con el siguiente; una vez vencido el lote
+     * no se envía nada más.
+     */
+    private void submitNext(
+            Queue<TmdbDetailsRef> pending,
+            Map<TmdbDetailsRef, CompletableFuture<TmdbDetailsBatchItem>> results,
+            CompletableFuture<Void> batch
+    ) {
+        TmdbDetailsRef ref;
+        while (!batch.isDone() && (ref = pending.poll()) != null) {
+            CompletableFuture<TmdbDetailsBatchItem> result = results.get(ref);
+            TmdbDetailsRef current = ref;
+            try {
+                tmdbExecutor.execute(() -> {
+                    try {
+                        result.complete(fetch(current));
+                    } finally {
+                        submitNext(pending, results, batch);
+                    }
+                });
+                return;
+            } catch (RejectedExecutionException e) {
+                result.complete(errorItem(current, "Demasiadas peticiones a TMDB en curso, intenta nuevamente"));
+            }
+        }
+    }
+
+    private TmdbDetailsBatchItem fromCache(TmdbDetailsRef ref) {
+        return ref.contentType() == ContentType.MOVIE
+                ? movieItem(ref, tmdbService.getCachedMovieDetails(ref.id()))
+                : seriesItem(ref, tmdbService.getCachedSeriesDetails(ref.id()));
+    }
+
+    private TmdbDetailsBatchItem fetch(TmdbDetailsRef ref) {
+        try {
+            TmdbDetailsBatchItem item = ref.contentType() == ContentType.MOVIE
+                    ? movieItem(ref, tmdbService.getMovieDetails(ref.id()))
+                    : seriesItem(ref, tmdbService.getSeriesDetails(ref.id()));
+            return item != null ? item : errorItem(ref, NOT_FOUND_ERROR);
+        } catch (RuntimeException e) {
+            return errorItem(ref, isNotFound(e) ? NOT_FOUND_ERROR : e.getMessage());
+        }
+    }
+
+    private TmdbDetailsBatchItem collect(TmdbDetailsRef ref, CompletableFuture<TmdbDetailsBatchItem> future) {
+        if (!future.isDone()) {
+            // No se cancela: cancel() no interrumpe la tarea en curso, que termina igual y
+            // deja el detalle en la caché para la siguiente petición
+            return errorItem(ref, "TMDB no respondió a tiempo");
+        }
+        return future.join();
+    }
+
+    /**
+     * Indica si el contenido de un lote falló porque TMDB no lo conoce (y no por un error transitorio)
+     */
+    static boolean isNotFound(TmdbDetailsBatchItem item) {
+        return NOT_FOUND_ERROR.equals(item.error());
+    }
+
+    static boolean isNotFound(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WebClientResponseException.NotFound) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static TmdbDetailsBatchItem movieItem(TmdbDetailsRef ref, TmdbMovieDetails details) {
+        return details != null ? new TmdbDetailsBatchItem(ref.contentType(), ref.id(), details, null, null) : null;
+    }
+
+    private static TmdbDetailsBatchItem seriesItem(TmdbDetailsRef ref, TmdbSeriesDetails details) {
+        return details != null ? new TmdbDetailsBatchItem(ref.contentType(), ref.id(), null, details, null) : null;
+    }
+
+    private static TmdbDetailsBatchItem errorItem(TmdbDetailsRef ref, String error) {
+        return new TmdbDetailsBatchItem(ref.contentType(), ref.id(), null, null, error);
+    }
+}
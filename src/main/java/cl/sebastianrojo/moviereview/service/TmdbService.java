@@ -2,6 +2,13 @@ package cl.sebastianrojo.moviereview.service;
 
 import cl.sebastianrojo.moviereview.dto.tmdb.*;
 import cl.sebastianrojo.moviereview.exception.ExternalApiException;
+import cl.sebastianrojo.moviereview.tmdb.TmdbCacheFactory;
+import cl.sebastianrojo.moviereview.tmdb.TmdbEndpoint;
+import cl.sebastianrojo.moviereview.tmdb.TmdbHttpProperties;
+import cl.sebastianrojo.moviereview.tmdb.TmdbLastKnownGood;
+import cl.sebastianrojo.moviereview.tmdb.TmdbRequestCoalescer;
+import cl.sebastianrojo.moviereview.tmdb.TmdbResilience;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,6 +17,12 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 @Service
 public class TmdbService {
 
@@ -18,151 +31,148 @@ public class TmdbService {
     private final WebClient webClient;
     private final String apiKey;
     private final String imageBaseUrl;
+    private final TmdbRequestCoalescer coalescer;
+    private final TmdbHttpProperties httpProperties;
+    private final TmdbResilience resilience;
+    private final TmdbLastKnownGood lastKnownGood;
+
+    private final LoadingCache<Long, TmdbMovieDetails> movieDetailsCache;
+    private final LoadingCache<Long, TmdbSeriesDetails> seriesDetailsCache;
+    private final LoadingCache<Integer, TmdbSearchResponse> popularMoviesCache;
+    private final LoadingCache<Integer, TmdbSearchResponse> popularSeriesCache;
 
     public TmdbService(
             @Value("${tmdb.api.key}") String apiKey,
-            @Value("${tmdb.api.base-url}") String baseUrl,
-            @Value("${tmdb.api.image-base-url}") String imageBaseUrl
+            @Value("${tmdb.api.image-base-url}") String imageBaseUrl,
+            WebClient tmdbWebClient,
+            TmdbHttpProperties httpProperties,
+            TmdbCacheFactory cacheFactory,
+            TmdbRequestCoalescer coalescer,
+            TmdbResilience resilience,
+            TmdbLastKnownGood lastKnownGood
     ) {
         this.apiKey = apiKey;
         this.imageBaseUrl = imageBaseUrl;
-        this.webClient = WebClient.builder()
-                .baseUrl(baseUrl)
-                .build();
+        this.webClient = tmdbWebClient;
+        this.httpProperties = httpProperties;
+        this.coalescer = coalescer;
+        this.resilience = resilience;
+        this.lastKnownGood = lastKnownGood;
+
+        this.movieDetailsCache = cacheFactory.create(TmdbEndpoint.MOVIE_DETAILS.id(), Duration.ofHours(6), 5_000, this::fetchMovieDetails);
+        this.seriesDetailsCache = cacheFactory.create(TmdbEndpoint.SERIES_DETAILS.id(), Duration.ofHours(6), 5_000, this::fetchSeriesDetails);
+        this.popularMoviesCache = cacheFactory.create(TmdbEndpoint.POPULAR_MOVIES.id(), Duration.ofMinutes(30), 100, this::fetchPopularMovies);
+        this.popularSeriesCache = cacheFactory.create(TmdbEndpoint.POPULAR_SERIES.id(), Duration.ofMinutes(30), 100, this::fetchPopularSeries);
     }
 
     /**
      * Busca películas por término de búsqueda
      */
     public TmdbSearchResponse searchMovies(String query, Integer page) {
-        try {
-            return webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/search/movie")
-                            .queryParam("api_key", apiKey)
-                            .queryParam("query", query)
-                            .queryParam("language", "es-ES")
-                            .queryParam("page", page != null ? page : 1)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(TmdbSearchResponse.class)
-                    .onErrorMap(WebClientResponseException.class, ex -> 
-                        new ExternalApiException("Error al buscar películas en TMDB: " + ex.getMessage()))
-                    .block();
-        } catch (Exception e) {
-            log.error("Error searching movies: {}", e.getMessage());
-            throw new ExternalApiException("Error al conectar con TMDB", e);
-        }
+        int resolvedPage = page != null ? page : 1;
+        return execute(TmdbEndpoint.SEARCH_MOVIES, List.of(query, resolvedPage), () -> webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/search/movie")
+                        .queryParam("api_key", apiKey)
+                        .queryParam("query", query)
+                        .queryParam("language", "es-ES")
+                        .queryParam("page", resolvedPage)
+                        .build())
+                .retrieve()
+                .bodyToMono(TmdbSearchResponse.class)
+                .onErrorMap(WebClientResponseException.class, ex ->
+                    new ExternalApiException("Error al buscar películas en TMDB: " + ex.getMessage(), ex)));
     }
 
     /**
      * Busca series por término de búsqueda
      */
     public TmdbSearchResponse searchSeries(String query, Integer page) {
-        try {
-            return webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/search/tv")
-                            .queryParam("api_key", apiKey)
-                            .queryParam("query", query)
-                            .queryParam("language", "es-ES")
-                            .queryParam("page", page != null ? page : 1)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(TmdbSearchResponse.class)
-                    .onErrorMap(WebClientResponseException.class, ex -> 
-                        new ExternalApiException("Error al buscar series en TMDB: " + ex.getMessage()))
-                    .block();
-        } catch (Exception e) {
-            log.error("Error searching series: {}", e.getMessage());
-            throw new ExternalApiException("Error al conectar con TMDB", e);
-        }
+        int resolvedPage = page != null ? page : 1;
+        return execute(TmdbEndpoint.SEARCH_SERIES, List.of(query, resolvedPage), () -> webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/search/tv")
+                        .queryParam("api_key", apiKey)
+                        .queryParam("query", query)
+                        .queryParam("language", "es-ES")
+                        .queryParam("page", resolvedPage)
+                        .build())
+                .retrieve()
+                .bodyToMono(TmdbSearchResponse.class)
+                .onErrorMap(WebClientResponseException.class, ex ->
+                    new ExternalApiException("Error al buscar series en TMDB: " + ex.getMessage(), ex)));
     }
 
     /**
-     * Obtiene detalles de una película específica
+     * Obtiene detalles de una película específica (cacheado)
      */
     public TmdbMovieDetails getMovieDetails(Long movieId) {
-        try {
-            return webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/movie/{id}")
-                            .queryParam("api_key", apiKey)
-                            .queryParam("language", "es-ES")
-                            .build(movieId))
-                    .retrieve()
-                    .bodyToMono(TmdbMovieDetails.class)
-                    .onErrorMap(WebClientResponseException.class, ex -> 
-                        new ExternalApiException("Error al obtener detalles de película: " + ex.getMessage()))
-                    .block();
-        } catch (Exception e) {
-            log.error("Error getting movie details for ID {}: {}", movieId, e.getMessage());
-            throw new ExternalApiException("Error al conectar con TMDB", e);
-        }
+        return cached(movieDetailsCache, movieId, this::fetchMovieDetails);
     }
 
     /**
-     * Obtiene detalles de una serie específica
+     * Obtiene detalles de una serie específica (cacheado)
      */
     public TmdbSeriesDetails getSeriesDetails(Long seriesId) {
-        try {
-            return webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/tv/{id}")
-                            .queryParam("api_key", apiKey)
-                            .queryParam("language", "es-ES")
-                            .build(seriesId))
-                    .retrieve()
-                    .bodyToMono(TmdbSeriesDetails.class)
-                    .onErrorMap(WebClientResponseException.class, ex -> 
-                        new ExternalApiException("Error al obtener detalles de serie: " + ex.getMessage()))
-                    .block();
-        } catch (Exception e) {
-            log.error("Error getting series details for ID {}: {}", seriesId, e.getMessage());
-            throw new ExternalApiException("Error al conectar con TMDB", e);
-        }
+        return cached(seriesDetailsCache, seriesId, this::fetchSeriesDetails);
+    }
+
+    /**
+     * Detalles de una película solo si ya están en caché (null si no)
+     */
+    public TmdbMovieDetails getCachedMovieDetails(Long movieId) {
+        return movieDetailsCache.getIfPresent(movieId);
     }
 
     /**
-     * Obtiene películas populares
+     * Detalles de una serie solo si ya están en caché (null si no)
+     */
+    public TmdbSeriesDetails getCachedSeriesDetails(Long seriesId) {
+        return seriesDetailsCache.getIfPresent(seriesId);
+    }
+
+    /**
+     * Obtiene películas populares (cacheado por página)
      */
     public TmdbSearchResponse getPopularMovies(Integer page) {
-        try {
-            return webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/movie/popular")
-                            .queryParam("api_key", apiKey)
-                            .queryParam("language", "es-ES")
-                            .queryParam("page", page != null ? page : 1)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(TmdbSearchResponse.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("Error getting popular movies: {}", e.getMessage());
-            throw new ExternalApiException("Error al conectar con TMDB", e);
-        }
+        return cached(popularMoviesCache, page != null ? page : 1, this::fetchPopularMovies);
     }
 
     /**
-     * Obtiene series populares
+     * Obtiene series populares (cacheado por página)
      */
     public TmdbSearchResponse getPopularSeries(Integer page) {
-        try {
-            return webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/tv/popular")
-                            .queryParam("api_key", apiKey)
-                            .queryParam("language", "es-ES")
-                            .queryParam("page", page != null ? page : 1)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(TmdbSearchResponse.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("Error getting popular series: {}", e.getMessage());
-            throw new ExternalApiException("Error al conectar con TMDB", e);
-        }
+        return cached(popularSeriesCache, page != null ? page : 1, this::fetchPopularSeries);
+    }
+
+    // ===== Precarga (TmdbPopularPrefetcher) =====
+
+    /**
+     * Recarga una página de películas populares; mientras llega se sigue sirviendo la anterior
+     */
+    public CompletableFuture<TmdbSearchResponse> refreshPopularMovies(int page) {
+        return popularMoviesCache.refresh(page);
+    }
+
+    /**
+     * Recarga una página de series populares; mientras llega se sigue sirviendo la anterior
+     */
+    public CompletableFuture<TmdbSearchResponse> refreshPopularSeries(int page) {
+        return popularSeriesCache.refresh(page);
+    }
+
+    /**
+     * Carga los detalles de una película si aún no están en caché
+     */
+    public void prefetchMovieDetails(long movieId) {
+        cached(movieDetailsCache, movieId, this::fetchMovieDetails);
+    }
+
+    /**
+     * Carga los detalles de una serie si aún no están en caché
+     */
+    public void prefetchSeriesDetails(long seriesId) {
+        cached(seriesDetailsCache, seriesId, this::fetchSeriesDetails);
     }
 
     /**
@@ -189,4 +199,104 @@ public class TmdbService {
     public String buildBackdropUrl(String backdropPath) {
         return buildImageUrl(backdropPath, "w780");
     }
-}
\ No newline at end of file
+
+    /**
+     * Lee de la caché y, si falta, llama a TMDB fuera de ella. Con cache.get() Caffeine ejecuta
+     * la carga dentro de ConcurrentHashMap.compute: el bin queda bloqueado durante toda la llamada
+     * HTTP y, antes de JDK 24, el hilo virtual que espera fija su carrier. Las llamadas concurrentes
+     * por la misma clave se comparten en el coalescer; las recargas en segundo plano siguen usando
+     * el loader de la caché.
+     */
+    private static <K, V> V cached(LoadingCache<K, V> cache, K key, Function<K, V> loader) {
+        V value = cache.getIfPresent(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                cache.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    // ===== Llamadas a TMDB =====
+
+    private TmdbMovieDetails fetchMovieDetails(Long movieId) {
+        return execute(TmdbEndpoint.MOVIE_DETAILS, movieId, () -> webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/movie/{id}")
+                        .queryParam("api_key", apiKey)
+                        .queryParam("language", "es-ES")
+                        .build(movieId))
+                .retrieve()
+                .bodyToMono(TmdbMovieDetails.class)
+                .onErrorMap(WebClientResponseException.class, ex ->
+                    new ExternalApiException("Error al obtener detalles de película: " + ex.getMessage(), ex)));
+    }
+
+    private TmdbSeriesDetails fetchSeriesDetails(Long seriesId) {
+        return execute(TmdbEndpoint.SERIES_DETAILS, seriesId, () -> webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/tv/{id}")
+                        .queryParam("api_key", apiKey)
+                        .queryParam("language", "es-ES")
+                        .build(seriesId))
+                .retrieve()
+                .bodyToMono(TmdbSeriesDetails.class)
+                .onErrorMap(WebClientResponseException.class, ex ->
+                    new ExternalApiException("Error al obtener detalles de serie: " + ex.getMessage(), ex)));
+    }
+
+    private TmdbSearchResponse fetchPopularMovies(Integer page) {
+        return execute(TmdbEndpoint.POPULAR_MOVIES, page, () -> webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/movie/popular")
+                        .queryParam("api_key", apiKey)
+                        .queryParam("language", "es-ES")
+                        .queryParam("page", page)
+                        .build())
+                .retrieve()
+                .bodyToMono(TmdbSearchResponse.class));
+    }
+
+    private TmdbSearchResponse fetchPopularSeries(Integer page) {
+        return execute(TmdbEndpoint.POPULAR_SERIES, page, () -> webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/tv/popular")
+                        .queryParam("api_key", apiKey)
+                        .queryParam("language", "es-ES")
+                        .queryParam("page", page)
+                        .build())
+                .retrieve()
+                .bodyToMono(TmdbSearchResponse.class));
+    }
+
+    /**
+     * Ejecuta una petición a TMDB compartiendo el resultado con las llamadas
+     * idénticas que estén en curso, dentro del presupuesto de tiempo del endpoint
+     * y protegida por bulkhead y circuit breaker. Si falla, responde con la última
+     * respuesta correcta conocida cuando existe.
+     */
+    private <T> T execute(TmdbEndpoint endpoint, Object params, Supplier<Mono<T>> request) {
+        try {
+            T response = coalescer.execute(endpoint, params, () -> resilience.call(endpoint, () -> {
+                try {
+                    return request.get()
+                            .timeout(httpProperties.timeout(endpoint))
+                            .block();
+                } catch (Exception e) {
+                    log.error("Error calling TMDB {} {}: {}", endpoint.id(), params, e.getMessage());
+                    throw new ExternalApiException("Error al conectar con TMDB", e);
+                }
+            }));
+            lastKnownGood.store(endpoint, params, response);
+            return response;
+        } catch (ExternalApiException e) {
+            T fallback = lastKnownGood.fallback(endpoint, params);
+            if (fallback != null) {
+                log.warn("Serving last known good response for TMDB {} {}: {}", endpoint.id(), params, e.getMessage());
+                return fallback;
+            }
+            throw e;
+        }
+    }
+}
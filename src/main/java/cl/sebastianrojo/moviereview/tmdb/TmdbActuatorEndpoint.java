@@ -0,0 +1,34 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * GET /actuator/tmdb - Estado del circuit breaker, tokens del limitador y llamadas disponibles por endpoint
+ */
+@Component
+@Endpoint(id = "tmdb")
+public class TmdbActuatorEndpoint {
+
+    public record TmdbStatus(
+        TmdbCircuitBreaker.State circuitState,
+        double failureRate,
+        double rateLimitTokens,
+        Map<String, Integer> availableCalls
+    ) {}
+
+    private final TmdbResilience resilience;
+
+    public TmdbActuatorEndpoint(TmdbResilience resilience) {
+        this.resilience = resilience;
+    }
+
+    @ReadOperation
+    public TmdbStatus status() {
+        return new TmdbStatus(resilience.getCircuitState(), resilience.getFailureRate(),
+                resilience.getRateLimitTokens(), resilience.getAvailableCalls());
+    }
+}
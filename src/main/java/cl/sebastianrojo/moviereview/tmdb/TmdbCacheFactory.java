@@ -0,0 +1,70 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Crea las cachés en memoria usadas delante de TMDB.
+ * Cada caché se configura con tmdb.cache.{nombre}.ttl y tmdb.cache.{nombre}.maximum-size;
+ * una vez vencido el TTL se sigue sirviendo el valor anterior durante la ventana
+ * stale-while-revalidate mientras se recarga en segundo plano. Las recargas en segundo
+ * plano llaman a TMDB con prioridad BACKGROUND.
+ */
+@Component
+public class TmdbCacheFactory {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Executor refreshExecutor;
+    private final boolean enabled;
+    private final Duration staleWhileRevalidate;
+
+    public TmdbCacheFactory(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Qualifier("tmdbExecutor") Executor refreshExecutor,
+            @Value("${tmdb.cache.enabled:true}") boolean enabled,
+            @Value("${tmdb.cache.stale-while-revalidate:10m}") Duration staleWhileRevalidate
+    ) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.refreshExecutor = refreshExecutor;
+        this.enabled = enabled;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    public <K, V> LoadingCache<K, V> create(
+            String name,
+            Duration defaultTtl,
+            long defaultMaximumSize,
+            Function<K, V> loader
+    ) {
+        Duration ttl = environment.getProperty("tmdb.cache." + name + ".ttl", Duration.class, defaultTtl);
+        long maximumSize = environment.getProperty("tmdb.cache." + name + ".maximum-size", Long.class, defaultMaximumSize);
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(enabled ? maximumSize : 0)
+                .expireAfterWrite(ttl.plus(staleWhileRevalidate))
+                .executor(task -> refreshExecutor.execute(() -> TmdbRequestPriority.runInBackground(task)))
+                .recordStats();
+        if (!staleWhileRevalidate.isZero()) {
+            builder.refreshAfterWrite(ttl);
+        }
+
+        LoadingCache<K, V> cache = builder.build(loader::apply);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tmdb." + name);
+        return cache;
+    }
+}
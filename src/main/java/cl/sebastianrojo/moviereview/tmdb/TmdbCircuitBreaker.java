@@ -0,0 +1,130 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker por conteo sobre las últimas llamadas a TMDB.
+ * CLOSED: deja pasar todo y registra el resultado en una ventana circular.
+ * OPEN: rechaza de inmediato hasta que vence openDuration.
+ * HALF_OPEN: deja pasar un número acotado de llamadas de prueba; si todas terminan bien
+ * vuelve a CLOSED y ante el primer fallo vuelve a OPEN.
+ */
+public class TmdbCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final Logger log = LoggerFactory.getLogger(TmdbCircuitBreaker.class);
+
+    private final TmdbResilienceProperties.CircuitBreaker config;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public TmdbCircuitBreaker(TmdbResilienceProperties.CircuitBreaker config, LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.window = new boolean[config.windowSize()];
+    }
+
+    /**
+     * Indica si una llamada puede salir hacia TMDB. En HALF_OPEN reserva uno de los permisos de prueba.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < config.openDuration().toNanos()) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= config.halfOpenCalls()) {
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    /**
+     * Consulta si una llamada podría salir ahora, sin reservar permisos de prueba ni cambiar de estado.
+     * Permite descartar una llamada antes de gastar un token del limitador o esperar el bulkhead.
+     */
+    public synchronized boolean isCallPermitted() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> nanoClock.getAsLong() - openedAt >= config.openDuration().toNanos();
+            case HALF_OPEN -> halfOpenPermits < config.halfOpenCalls();
+        };
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= config.halfOpenCalls()) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onError() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= config.minimumCalls()
+                    && (double) windowFailures / windowCount >= config.failureRateThreshold()) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return windowCount == 0 ? 0.0 : (double) windowFailures / windowCount;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        log.warn("TMDB circuit breaker {} -> {} (failure rate {})", state, next, getFailureRate());
+        state = next;
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+import java.net.URI;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+@EnableConfigurationProperties(TmdbHttpProperties.class)
+public class TmdbClientConfig {
+
+    /**
+     * Pool de conexiones dedicado a TMDB. Con metrics(true) Reactor Netty publica en Micrometer
+     * el tiempo de espera por una conexión (reactor.netty.connection.provider.pending.connections.time)
+     * y las conexiones activas, ociosas y pendientes.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider tmdbConnectionProvider(TmdbHttpProperties properties) {
+        return ConnectionProvider.builder("tmdb")
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireMaxCount(properties.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.pendingAcquireTimeout())
+                .maxIdleTime(properties.maxIdleTime())
+                .maxLifeTime(properties.maxLifeTime())
+                .evictInBackground(properties.maxIdleTime())
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * WebClient para TMDB con timeouts de conexión y respuesta, keep-alive, gzip
+     * y HTTP/2 negociado por ALPN cuando la URL base es https
+     */
+    @Bean
+    public WebClient tmdbWebClient(
+            @Value("${tmdb.api.base-url}") String baseUrl,
+            ConnectionProvider tmdbConnectionProvider,
+            TmdbHttpProperties properties
+    ) {
+        HttpClient httpClient = HttpClient.create(tmdbConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+                .responseTimeout(properties.responseTimeout())
+                .keepAlive(true)
+                .compress(properties.compression());
+
+        if (properties.http2() && "https".equalsIgnoreCase(URI.create(baseUrl).getScheme())) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
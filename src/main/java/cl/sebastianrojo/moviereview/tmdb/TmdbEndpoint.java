@@ -0,0 +1,24 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+/**
+ * Endpoints de TMDB consumidos por la aplicación. Se usan como etiqueta en métricas
+ * y para agrupar la configuración por endpoint.
+ */
+public enum TmdbEndpoint {
+    SEARCH_MOVIES("search-movies"),
+    SEARCH_SERIES("search-series"),
+    MOVIE_DETAILS("movie-details"),
+    SERIES_DETAILS("series-details"),
+    POPULAR_MOVIES("popular-movies"),
+    POPULAR_SERIES("popular-series");
+
+    private final String id;
+
+    TmdbEndpoint(String id) {
+        this.id = id;
+    }
+
+    public String id() {
+        return id;
+    }
+}
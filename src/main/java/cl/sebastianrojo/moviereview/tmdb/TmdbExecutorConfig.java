@@ -0,0 +1,36 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class TmdbExecutorConfig {
+
+    /**
+     * Ejecutor para las llamadas bloqueantes a TMDB. Usa un hilo virtual por tarea,
+     * de modo que una respuesta lenta de TMDB no retiene hilos del pool de Tomcat.
+     * Las tareas en curso se limitan a tmdb.executor.max-concurrency: si TMDB se vuelve lento
+     * las peticiones sobrantes se rechazan (503) en lugar de acumular hilos bloqueados.
+     */
+    @Bean(name = "tmdbExecutor", destroyMethod = "close")
+    public ExecutorService tmdbExecutor(
+            @Value("${tmdb.executor.max-concurrency:200}") int maxConcurrency,
+            MeterRegistry meterRegistry
+    ) {
+        TmdbBoundedExecutor executor = new TmdbBoundedExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("tmdb-", 0).factory()),
+                maxConcurrency
+        );
+        Gauge.builder("tmdb.executor.active", executor, TmdbBoundedExecutor::getActiveTasks)
+                .description("Tareas de TMDB en curso")
+                .register(meterRegistry);
+        return executor;
+    }
+}
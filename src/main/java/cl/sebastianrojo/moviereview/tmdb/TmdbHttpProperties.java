@@ -0,0 +1,32 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuración del cliente HTTP hacia TMDB (tmdb.http.*).
+ * timeouts define el presupuesto total por endpoint (clave = TmdbEndpoint.id()),
+ * incluida la espera por una conexión del pool; si no se indica se usa default-timeout.
+ */
+@ConfigurationProperties("tmdb.http")
+public record TmdbHttpProperties(
+    @DefaultValue("100") int maxConnections,
+    @DefaultValue("500") int pendingAcquireMaxCount,
+    @DefaultValue("2s") Duration pendingAcquireTimeout,
+    @DefaultValue("30s") Duration maxIdleTime,
+    @DefaultValue("5m") Duration maxLifeTime,
+    @DefaultValue("2s") Duration connectTimeout,
+    @DefaultValue("5s") Duration responseTimeout,
+    @DefaultValue("true") boolean http2,
+    @DefaultValue("true") boolean compression,
+    @DefaultValue("5s") Duration defaultTimeout,
+    @DefaultValue Map<String, Duration> timeouts
+) {
+
+    public Duration timeout(TmdbEndpoint endpoint) {
+        return timeouts.getOrDefault(endpoint.id(), defaultTimeout);
+    }
+}
@@ -0,0 +1,54 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Última respuesta correcta de cada petición a TMDB, con una vida mucho más larga que las
+ * cachés normales. Se usa como respaldo cuando TMDB falla o el circuito está abierto.
+ */
+@Component
+public class TmdbLastKnownGood {
+
+    private record Key(TmdbEndpoint endpoint, Object params) {}
+
+    private final Cache<Key, Object> responses;
+    private final MeterRegistry meterRegistry;
+
+    public TmdbLastKnownGood(TmdbResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.lastKnownGood().maximumSize())
+                .expireAfterWrite(properties.lastKnownGood().ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "tmdb.last-known-good");
+    }
+
+    public void store(TmdbEndpoint endpoint, Object params, Object response) {
+        if (response != null) {
+            responses.put(new Key(endpoint, params), response);
+        }
+    }
+
+    /**
+     * Respuesta de respaldo, o null si nunca hubo una respuesta correcta para esta petición
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T fallback(TmdbEndpoint endpoint, Object params) {
+        T response = (T) responses.getIfPresent(new Key(endpoint, params));
+        if (response != null) {
+            Counter.builder("tmdb.fallback.served")
+                    .tag("endpoint", endpoint.id())
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return response;
+    }
+}
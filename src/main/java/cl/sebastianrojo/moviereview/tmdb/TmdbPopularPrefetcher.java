@@ -0,0 +1,143 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+import java.util.function.LongConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbContentItem;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbSearchResponse;
+import cl.sebastianrojo.moviereview.service.TmdbService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Mantiene calientes en caché las primeras páginas de películas y series populares y los
+ * detalles de sus títulos. Las páginas se recargan antes de vencer (la anterior se sigue
+ * sirviendo mientras tanto), de modo que las peticiones de usuarios no esperan a TMDB y el
+ * tráfico hacia TMDB queda como un ritmo de fondo constante. Las llamadas son secuenciales,
+ * ceden el limitador de peticiones a las interactivas (prioridad BACKGROUND) y se ejecutan
+ * en el ejecutor de TMDB para no ocupar el hilo del scheduler.
+ */
+@Component
+@ConditionalOnProperty(name = "tmdb.prefetch.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(TmdbPrefetchProperties.class)
+public class TmdbPopularPrefetcher {
+
+    private static final Logger log = LoggerFactory.getLogger(TmdbPopularPrefetcher.class);
+
+    private final TmdbService tmdbService;
+    private final TmdbPrefetchProperties properties;
+    private final TaskScheduler taskScheduler;
+    private final ExecutorService tmdbExecutor;
+    private final Timer runTimer;
+    private final Counter failures;
+
+    public TmdbPopularPrefetcher(
+            TmdbService tmdbService,
+            TmdbPrefetchProperties properties,
+            TaskScheduler taskScheduler,
+            @Qualifier("tmdbExecutor") ExecutorService tmdbExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.tmdbService = tmdbService;
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+        this.tmdbExecutor = tmdbExecutor;
+        this.runTimer = Timer.builder("tmdb.prefetch.duration")
+                .description("Duración de cada precarga de populares")
+                .register(meterRegistry);
+        this.failures = Counter.builder("tmdb.prefetch.failures")
+                .description("Páginas o detalles que no se pudieron precargar")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduleNext(properties.initialDelay());
+    }
+
+    /**
+     * Recarga las páginas de populares y precarga los detalles que aún no están en caché
+     */
+    public void prefetch() {
+        runTimer.record(() -> {
+            prefetchList("popular-movies", tmdbService::refreshPopularMovies, tmdbService::prefetchMovieDetails);
+            prefetchList("popular-series", tmdbService::refreshPopularSeries, tmdbService::prefetchSeriesDetails);
+        });
+    }
+
+    private void prefetchList(
+            String list,
+            IntFunction<CompletableFuture<TmdbSearchResponse>> refreshPage,
+            LongConsumer prefetchDetails
+    ) {
+        for (int page = 1; page <= properties.pages(); page++) {
+            TmdbSearchResponse response;
+            try {
+                response = refreshPage.apply(page).join();
+            } catch (RuntimeException e) {
+                // La página anterior sigue en caché; el resto de la lista se intenta en la próxima ejecución
+                failures.increment();
+                log.warn("TMDB prefetch of {} page {} failed: {}", list, page, e.getMessage());
+                return;
+            }
+            if (properties.details() && response != null && response.results() != null) {
+                prefetchDetails(list, response.results(), prefetchDetails);
+            }
+        }
+    }
+
+    private void prefetchDetails(String list, List<TmdbContentItem> items, LongConsumer prefetchDetails) {
+        for (TmdbContentItem item : items) {
+            if (item.id() == null) {
+                continue;
+            }
+            try {
+                prefetchDetails.accept(item.id());
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("TMDB prefetch of {} details {} failed: {}", list, item.id(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void scheduleNext(Duration delay) {
+        taskScheduler.schedule(() -> tmdbExecutor.execute(this::runAndReschedule), Instant.now().plus(delay));
+    }
+
+    private void runAndReschedule() {
+        try {
+            TmdbRequestPriority.runInBackground(this::prefetch);
+        } catch (RuntimeException e) {
+            log.warn("TMDB prefetch failed: {}", e.getMessage());
+        } finally {
+            scheduleNext(nextDelay());
+        }
+    }
+
+    /**
+     * interval ± jitter, para que varias instancias no consulten TMDB al mismo tiempo
+     */
+    private Duration nextDelay() {
+        long jitterMillis = properties.jitter().toMillis();
+        long offset = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1) : 0;
+        return Duration.ofMillis(Math.max(1_000, properties.interval().toMillis() + offset));
+    }
+}
@@ -0,0 +1,21 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Precarga periódica de las listas de populares (tmdb.prefetch.*).
+ * Cada ejecución se programa a interval ± jitter de la anterior; interval debe ser menor
+ * que el TTL de tmdb.cache.popular-* para que las páginas nunca lleguen a vencer.
+ */
+@ConfigurationProperties("tmdb.prefetch")
+public record TmdbPrefetchProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("3") int pages,
+    @DefaultValue("true") boolean details,
+    @DefaultValue("10m") Duration interval,
+    @DefaultValue("2m") Duration jitter,
+    @DefaultValue("30s") Duration initialDelay
+) {}
@@ -0,0 +1,188 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Token bucket para las llamadas a TMDB: requests-per-second de ritmo sostenido con ráfagas
+ * de hasta burst. Una llamada sin token espera en cola hasta su plazo y se rechaza de inmediato
+ * si, con las llamadas que tiene por delante, no alcanzaría a obtenerlo. Las llamadas BACKGROUND
+ * solo toman tokens cuando no hay llamadas INTERACTIVE esperando.
+ * Ante un 429 se detienen todas las llamadas durante Retry-After o, si TMDB no lo indica,
+ * durante un backoff exponencial que se reinicia con la primera respuesta correcta.
+ */
+public class TmdbRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(TmdbRateLimiter.class);
+
+    private final TmdbResilienceProperties.RateLimit config;
+    private final LongSupplier nanoClock;
+    private final double nanosPerToken;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition queueChanged = lock.newCondition();
+
+    private double tokens;
+    private long lastRefill;
+    private long pausedUntil;
+    private int consecutiveThrottles;
+    private int interactiveQueued;
+    private int backgroundQueued;
+
+    public TmdbRateLimiter(TmdbResilienceProperties.RateLimit config, LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / config.requestsPerSecond();
+        this.tokens = config.burst();
+        this.lastRefill = nanoClock.getAsLong();
+        this.pausedUntil = lastRefill;
+    }
+
+    /**
+     * Obtiene un token esperando como máximo maxWait (con maxWait cero no espera).
+     * Devuelve false si no se obtuvo dentro del plazo.
+     */
+    public boolean acquire(TmdbRequestPriority priority, Duration maxWait) {
+        long deadline = nanoClock.getAsLong() + maxWait.toNanos();
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            long wait = nanosUntilAvailable(priority, now);
+            if (wait == 0) {
+                tokens -= 1;
+                return true;
+            }
+            if (now + wait + queuedAhead(priority) * nanosPerToken > deadline) {
+                return false;
+            }
+
+            enqueue(priority, 1);
+            try {
+                while (true) {
+                    queueChanged.awaitNanos(wait);
+                    now = nanoClock.getAsLong();
+                    wait = nanosUntilAvailable(priority, now);
+                    if (wait == 0) {
+                        tokens -= 1;
+                        return true;
+                    }
+                    if (now + wait > deadline) {
+                        return false;
+                    }
+                }
+            } finally {
+                enqueue(priority, -1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * TMDB respondió 429: se vacía el bucket y no se entregan tokens hasta que vence la pausa
+     * (retryAfter si TMDB lo indicó, si no el backoff exponencial; en ambos casos como máximo maxBackoff)
+     */
+    public void onThrottled(Duration retryAfter) {
+        lock.lock();
+        try {
+            consecutiveThrottles++;
+            Duration pause = retryAfter != null ? min(retryAfter, config.maxBackoff()) : backoff(consecutiveThrottles);
+            long until = nanoClock.getAsLong() + pause.toNanos();
+            if (until > pausedUntil) {
+                pausedUntil = until;
+            }
+            tokens = 0;
+            lastRefill = Math.max(lastRefill, pausedUntil);
+            log.warn("TMDB rate limited (throttle #{}), pausing calls for {}", consecutiveThrottles, pause);
+            queueChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            consecutiveThrottles = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getAvailableTokens() {
+        lock.lock();
+        try {
+            refill(nanoClock.getAsLong());
+            return tokens;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued(TmdbRequestPriority priority) {
+        lock.lock();
+        try {
+            return priority == TmdbRequestPriority.INTERACTIVE ? interactiveQueued : backgroundQueued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Nanosegundos hasta que la llamada podría tomar un token (0 si puede tomarlo ya)
+     */
+    private long nanosUntilAvailable(TmdbRequestPriority priority, long now) {
+        if (now < pausedUntil) {
+            return pausedUntil - now;
+        }
+        refill(now);
+        long tokenWait = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * nanosPerToken);
+        if (priority == TmdbRequestPriority.BACKGROUND && interactiveQueued > 0) {
+            return Math.max(tokenWait, (long) (interactiveQueued * nanosPerToken));
+        }
+        return tokenWait;
+    }
+
+    /**
+     * Llamadas en cola que tienen preferencia sobre una nueva llamada de esta prioridad
+     */
+    private int queuedAhead(TmdbRequestPriority priority) {
+        return priority == TmdbRequestPriority.INTERACTIVE ? interactiveQueued : interactiveQueued + backgroundQueued;
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill) {
+            tokens = Math.min(config.burst(), tokens + (now - lastRefill) / nanosPerToken);
+            lastRefill = now;
+        }
+    }
+
+    private void enqueue(TmdbRequestPriority priority, int delta) {
+        if (priority == TmdbRequestPriority.INTERACTIVE) {
+            interactiveQueued += delta;
+            if (delta < 0) {
+                // Una interactiva menos en cola puede habilitar a las de segundo plano
+                queueChanged.signalAll();
+            }
+        } else {
+            backgroundQueued += delta;
+        }
+    }
+
+    private Duration backoff(int throttles) {
+        return min(config.initialBackoff().multipliedBy(1L << Math.min(throttles - 1, 20)), config.maxBackoff());
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) > 0 ? b : a;
+    }
+}
@@ -0,0 +1,88 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import cl.sebastianrojo.moviereview.exception.ExternalApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Deduplica llamadas idénticas a TMDB que están en curso (single-flight):
+ * el primer llamador ejecuta la petición y los concurrentes con la misma
+ * clave esperan (como máximo tmdb.coalescer.max-wait) y comparten su resultado o su error.
+ */
+@Component
+public class TmdbRequestCoalescer {
+
+    // La prioridad forma parte de la clave: una llamada interactiva no debe quedar esperando
+    // detrás de una precarga que aguarda un token con el plazo largo de segundo plano
+    private record RequestKey(TmdbEndpoint endpoint, Object params, TmdbRequestPriority priority) {}
+
+    private final ConcurrentHashMap<RequestKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Duration maxWait;
+
+    public TmdbRequestCoalescer(
+            MeterRegistry meterRegistry,
+            @Value("${tmdb.coalescer.max-wait:10s}") Duration maxWait
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.maxWait = maxWait;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(TmdbEndpoint endpoint, Object params, Supplier<T> request) {
+        RequestKey key = new RequestKey(endpoint, params, TmdbRequestPriority.current());
+        CompletableFuture<Object> ownFuture = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, ownFuture);
+
+        if (existing != null) {
+            counter("tmdb.requests.coalesced", endpoint).increment();
+            return (T) await(existing);
+        }
+
+        counter("tmdb.requests.upstream", endpoint).increment();
+        try {
+            T result = request.get();
+            ownFuture.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Cualquier error (incluidos Error) se entrega a los que esperan; si no, quedarían bloqueados
+            ownFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, ownFuture);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ExternalApiException("TMDB no respondió a tiempo", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalApiException("Petición a TMDB interrumpida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ExternalApiException("Error al conectar con TMDB", e.getCause());
+        }
+    }
+
+    private Counter counter(String name, TmdbEndpoint endpoint) {
+        return Counter.builder(name)
+                .tag("endpoint", endpoint.id())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,24 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+/**
+ * Prioridad de una llamada a TMDB frente al limitador de peticiones.
+ * Por defecto las llamadas son interactivas (alguien espera la respuesta); las precargas
+ * y refrescos se ejecutan dentro de runInBackground y ceden los tokens a las interactivas.
+ */
+public enum TmdbRequestPriority {
+    INTERACTIVE,
+    BACKGROUND;
+
+    private static final ScopedValue<TmdbRequestPriority> CURRENT = ScopedValue.newInstance();
+
+    public static TmdbRequestPriority current() {
+        return CURRENT.orElse(INTERACTIVE);
+    }
+
+    /**
+     * Ejecuta la tarea marcando como BACKGROUND las llamadas a TMDB que haga en el hilo actual
+     */
+    public static void runInBackground(Runnable task) {
+        ScopedValue.where(CURRENT, BACKGROUND).run(task);
+    }
+}
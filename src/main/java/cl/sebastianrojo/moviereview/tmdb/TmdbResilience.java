@@ -0,0 +1,217 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import cl.sebastianrojo.moviereview.exception.ExternalApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Protege las llamadas salientes a TMDB con un circuit breaker compartido, un limitador de
+ * peticiones (token bucket con prioridad para las llamadas interactivas) y un bulkhead por
+ * endpoint (semáforo con espera acotada). Las llamadas rechazadas fallan de inmediato
+ * con ExternalApiException, sin ocupar conexiones ni esperar el timeout de TMDB.
+ */
+@Component
+@EnableConfigurationProperties(TmdbResilienceProperties.class)
+public class TmdbResilience {
+
+    private final TmdbCircuitBreaker circuitBreaker;
+    private final TmdbRateLimiter rateLimiter;
+    private final TmdbResilienceProperties.RateLimit rateLimitConfig;
+    private final Map<TmdbEndpoint, Semaphore> bulkheads = new EnumMap<>(TmdbEndpoint.class);
+    private final TmdbResilienceProperties.Bulkhead bulkheadConfig;
+    private final MeterRegistry meterRegistry;
+
+    public TmdbResilience(TmdbResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.circuitBreaker = new TmdbCircuitBreaker(properties.circuitBreaker(), System::nanoTime);
+        this.rateLimitConfig = properties.rateLimit();
+        this.rateLimiter = new TmdbRateLimiter(rateLimitConfig, System::nanoTime);
+        this.bulkheadConfig = properties.bulkhead();
+        this.meterRegistry = meterRegistry;
+
+        for (TmdbEndpoint endpoint : TmdbEndpoint.values()) {
+            Semaphore semaphore = new Semaphore(bulkheadConfig.maxConcurrentCalls(endpoint));
+            bulkheads.put(endpoint, semaphore);
+            Gauge.builder("tmdb.bulkhead.available", semaphore, Semaphore::availablePermits)
+                    .description("Llamadas concurrentes disponibles hacia TMDB")
+                    .tag("endpoint", endpoint.id())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("tmdb.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Estado del circuit breaker de TMDB: 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN")
+                .register(meterRegistry);
+        Gauge.builder("tmdb.ratelimit.tokens", rateLimiter, TmdbRateLimiter::getAvailableTokens)
+                .description("Tokens disponibles en el limitador de peticiones a TMDB")
+                .register(meterRegistry);
+        for (TmdbRequestPriority priority : TmdbRequestPriority.values()) {
+            Gauge.builder("tmdb.ratelimit.queued", rateLimiter, limiter -> limiter.getQueued(priority))
+                    .description("Llamadas esperando un token del limitador de TMDB")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    public <T> T call(TmdbEndpoint endpoint, Supplier<T> request) {
+        // Con el circuito abierto se rechaza antes de consumir un token o esperar en el limitador
+        if (!circuitBreaker.isCallPermitted()) {
+            rejected("circuit-open", endpoint);
+            throw new ExternalApiException("TMDB no está disponible temporalmente");
+        }
+        if (rateLimitConfig.enabled()) {
+            acquireRateLimit(endpoint);
+        }
+        Semaphore bulkhead = bulkheads.get(endpoint);
+        if (!tryAcquire(bulkhead)) {
+            rejected("bulkhead", endpoint);
+            throw new ExternalApiException("Demasiadas peticiones simultáneas a TMDB, intenta nuevamente");
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                rejected("circuit-open", endpoint);
+                throw new ExternalApiException("TMDB no está disponible temporalmente");
+            }
+            try {
+                T result = request.get();
+                circuitBreaker.onSuccess();
+                rateLimiter.onSuccess();
+                return result;
+            } catch (RuntimeException e) {
+                WebClientResponseException throttled = findThrottled(e);
+                if (throttled != null) {
+                    counter("tmdb.ratelimit.upstream.throttled", endpoint).increment();
+                    rateLimiter.onThrottled(retryAfter(throttled));
+                }
+                if (isUpstreamFailure(e)) {
+                    circuitBreaker.onError();
+                } else {
+                    circuitBreaker.onSuccess();
+                }
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public TmdbCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public double getFailureRate() {
+        return circuitBreaker.getFailureRate();
+    }
+
+    public Map<String, Integer> getAvailableCalls() {
+        Map<String, Integer> available = new LinkedHashMap<>();
+        bulkheads.forEach((endpoint, semaphore) -> available.put(endpoint.id(), semaphore.availablePermits()));
+        return available;
+    }
+
+    public double getRateLimitTokens() {
+        return rateLimiter.getAvailableTokens();
+    }
+
+    /**
+     * Espera un token del limitador según la prioridad de la llamada actual, o la rechaza
+     * si no lo obtendría dentro de su plazo
+     */
+    private void acquireRateLimit(TmdbEndpoint endpoint) {
+        TmdbRequestPriority priority = TmdbRequestPriority.current();
+        long start = System.nanoTime();
+        boolean acquired = rateLimiter.acquire(priority, rateLimitConfig.maxWait(priority));
+        Timer.builder("tmdb.ratelimit.wait")
+                .description("Espera por un token del limitador de TMDB")
+                .tag("priority", priority.name().toLowerCase())
+                .tag("outcome", acquired ? "acquired" : "throttled")
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - start));
+        if (!acquired) {
+            rejected("rate-limit", endpoint);
+            throw new ExternalApiException("Se alcanzó el límite de peticiones a TMDB, intenta nuevamente");
+        }
+    }
+
+    private boolean tryAcquire(Semaphore bulkhead) {
+        try {
+            return bulkhead.tryAcquire(bulkheadConfig.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Las respuestas 4xx (salvo 429) indican un problema de la petición, no de TMDB
+     */
+    private boolean isUpstreamFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WebClientResponseException response) {
+                return !response.getStatusCode().is4xxClientError()
+                        || response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+            }
+        }
+        return true;
+    }
+
+    private WebClientResponseException findThrottled(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WebClientResponseException response
+                    && response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                return response;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retry-After en segundos o como fecha HTTP; null si no viene o no se puede interpretar
+     */
+    private Duration retryAfter(WebClientResponseException response) {
+        String value = response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                Duration until = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return until.isNegative() ? Duration.ZERO : until;
+            } catch (RuntimeException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private Counter counter(String name, TmdbEndpoint endpoint) {
+        return Counter.builder(name)
+                .tag("endpoint", endpoint.id())
+                .register(meterRegistry);
+    }
+
+    private void rejected(String reason, TmdbEndpoint endpoint) {
+        Counter.builder("tmdb.requests.rejected")
+                .tag("endpoint", endpoint.id())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
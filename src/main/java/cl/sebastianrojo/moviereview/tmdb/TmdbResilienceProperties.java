@@ -0,0 +1,71 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limitador de peticiones, circuit breaker, bulkhead y respaldo last-known-good para TMDB (tmdb.resilience.*)
+ */
+@ConfigurationProperties("tmdb.resilience")
+public record TmdbResilienceProperties(
+    @DefaultValue CircuitBreaker circuitBreaker,
+    @DefaultValue Bulkhead bulkhead,
+    @DefaultValue LastKnownGood lastKnownGood,
+    @DefaultValue RateLimit rateLimit
+) {
+
+    /**
+     * El circuito se abre cuando, con al menos minimum-calls en la ventana de las últimas
+     * window-size llamadas, la proporción de fallos alcanza failure-rate-threshold.
+     * Tras open-duration deja pasar half-open-calls llamadas de prueba.
+     */
+    public record CircuitBreaker(
+        @DefaultValue("20") int windowSize,
+        @DefaultValue("10") int minimumCalls,
+        @DefaultValue("0.5") double failureRateThreshold,
+        @DefaultValue("30s") Duration openDuration,
+        @DefaultValue("3") int halfOpenCalls
+    ) {}
+
+    /**
+     * Llamadas concurrentes por endpoint (clave = TmdbEndpoint.id(), por defecto max-concurrent-calls)
+     */
+    public record Bulkhead(
+        @DefaultValue("20") int maxConcurrentCalls,
+        @DefaultValue("100ms") Duration maxWait,
+        @DefaultValue Map<String, Integer> endpoints
+    ) {
+
+        public int maxConcurrentCalls(TmdbEndpoint endpoint) {
+            return endpoints.getOrDefault(endpoint.id(), maxConcurrentCalls);
+        }
+    }
+
+    public record LastKnownGood(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("24h") Duration ttl
+    ) {}
+
+    /**
+     * Token bucket hacia TMDB. Una llamada espera un token como máximo interactive-max-wait
+     * (o background-max-wait si es una precarga); ante un 429 sin Retry-After la pausa empieza
+     * en initial-backoff y se duplica hasta max-backoff.
+     */
+    public record RateLimit(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("40") double requestsPerSecond,
+        @DefaultValue("20") int burst,
+        @DefaultValue("500ms") Duration interactiveMaxWait,
+        @DefaultValue("30s") Duration backgroundMaxWait,
+        @DefaultValue("1s") Duration initialBackoff,
+        @DefaultValue("60s") Duration maxBackoff
+    ) {
+
+        public Duration maxWait(TmdbRequestPriority priority) {
+            return priority == TmdbRequestPriority.BACKGROUND ? backgroundMaxWait : interactiveMaxWait;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+-- Esquema inicial: equivale a lo que generaba ddl-auto: update.
+-- Las bases existentes se marcan en la versión 0 (spring.flyway.baseline-on-migrate) y
+-- también ejecutan este script, por lo que cada sentencia es idempotente: crea lo que
+-- falte sin tocar lo que ddl-auto ya había creado.
+
+CREATE TABLE IF NOT EXISTS users (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    username   VARCHAR(50)  NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    email      VARCHAR(100) NOT NULL,
+    role       VARCHAR(20)  NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS reviews (
+    id                  BIGINT        NOT NULL AUTO_INCREMENT,
+    external_content_id VARCHAR(100)  NOT NULL,
+    content_type        VARCHAR(20)   NOT NULL,
+    rating              INT           NOT NULL,
+    comment             VARCHAR(1000),
+    created_at          DATETIME(6)   NOT NULL,
+    updated_at          DATETIME(6)   NOT NULL,
+    user_id             BIGINT        NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_content UNIQUE (user_id, external_content_id, content_type),
+    CONSTRAINT fk_reviews_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- Página de reviews de un contenido ordenada por fecha (paginación por keyset).
+-- MySQL no tiene CREATE INDEX IF NOT EXISTS: se consulta information_schema.
+SET @create_index = (
+    SELECT IF(COUNT(*) = 0,
+              'CREATE INDEX idx_reviews_content_created ON reviews (external_content_id, content_type, created_at, id)',
+              'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'reviews'
+      AND index_name = 'idx_reviews_content_created'
+);
+PREPARE create_index FROM @create_index;
+EXECUTE create_index;
+DEALLOCATE PREPARE create_index;
+
+CREATE TABLE IF NOT EXISTS content_rating_stats (
+    external_content_id VARCHAR(100) NOT NULL,
+    content_type        VARCHAR(20)  NOT NULL,
+    review_count        BIGINT       NOT NULL,
+    rating_sum          BIGINT       NOT NULL,
+    stars_1             BIGINT       NOT NULL,
+    stars_2             BIGINT       NOT NULL,
+    stars_3             BIGINT       NOT NULL,
+    stars_4             BIGINT       NOT NULL,
+    stars_5             BIGINT       NOT NULL,
+    updated_at          DATETIME(6)  NOT NULL,
+    PRIMARY KEY (external_content_id, content_type)
+);
@@ -0,0 +1,4 @@
+-- Reviews de un usuario ordenadas por fecha (/api/reviews/user/{username} y /api/reviews/my).
+-- InnoDB agrega el id al final de cada índice secundario, por lo que el desempate por id
+-- también queda cubierto.
+CREATE INDEX idx_reviews_user_created ON reviews (user_id, created_at);
@@ -0,0 +1,14 @@
+-- Tablas de secuencia para los ids de users y reviews (MySQL no tiene secuencias nativas;
+-- Hibernate las emula con una tabla de una fila y columna next_val).
+-- El optimizador pooled reserva los ids (next_val - 49 .. next_val], por lo que el valor
+-- inicial debe superar el id máximo actual en al menos el tamaño del bloque (50).
+
+CREATE TABLE users_seq (
+    next_val BIGINT
+);
+INSERT INTO users_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM users;
+
+CREATE TABLE reviews_seq (
+    next_val BIGINT
+);
+INSERT INTO reviews_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM reviews;
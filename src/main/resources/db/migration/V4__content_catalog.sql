@@ -0,0 +1,15 @@
+-- Copia local de los datos de presentación de los contenidos reseñados.
+-- Se llena a medida que se muestran y se refresca en segundo plano; una fila con
+-- title NULL indica que TMDB no conoce el contenido (no se vuelve a pedir hasta vencer).
+
+CREATE TABLE content_catalog (
+    external_content_id VARCHAR(100) NOT NULL,
+    content_type        VARCHAR(20)  NOT NULL,
+    title               VARCHAR(255),
+    poster_path         VARCHAR(255),
+    release_date        VARCHAR(10),
+    vote_average        DOUBLE,
+    vote_count          INT,
+    fetched_at          DATETIME(6)  NOT NULL,
+    PRIMARY KEY (external_content_id, content_type)
+);
@@ -0,0 +1,33 @@
+-- Recalcula content_rating_stats desde reviews. Las bases anteriores al agregado tienen
+-- reviews sin fila de resumen (o filas parciales creadas solo por las reviews nuevas).
+
+INSERT INTO content_rating_stats
+    (external_content_id, content_type, review_count, rating_sum,
+     stars_1, stars_2, stars_3, stars_4, stars_5, updated_at)
+SELECT external_content_id, content_type, COUNT(*), SUM(rating),
+       SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END),
+       NOW(6)
+FROM reviews
+GROUP BY external_content_id, content_type
+ON DUPLICATE KEY UPDATE
+    review_count = VALUES(review_count),
+    rating_sum = VALUES(rating_sum),
+    stars_1 = VALUES(stars_1),
+    stars_2 = VALUES(stars_2),
+    stars_3 = VALUES(stars_3),
+    stars_4 = VALUES(stars_4),
+    stars_5 = VALUES(stars_5),
+    updated_at = VALUES(updated_at);
+
+-- Contenidos cuyas reviews ya no existen
+UPDATE content_rating_stats s
+SET review_count = 0, rating_sum = 0,
+    stars_1 = 0, stars_2 = 0, stars_3 = 0, stars_4 = 0, stars_5 = 0,
+    updated_at = NOW(6)
+WHERE NOT EXISTS (
+    SELECT 1 FROM reviews r
+    WHERE r.external_content_id = s.external_content_id AND r.content_type = s.content_type);
@@ -2,8 +2,10 @@ package cl.sebastianrojo.moviereview;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest
+@ActiveProfiles("dev")
 class MovieReviewApiApplicationTests {
 
 	@Test
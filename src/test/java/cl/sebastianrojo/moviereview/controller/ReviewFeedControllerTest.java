@@ -0,0 +1,71 @@
+package cl.sebastianrojo.moviereview.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import cl.sebastianrojo.moviereview.entity.Role;
+import cl.sebastianrojo.moviereview.entity.User;
+import cl.sebastianrojo.moviereview.repository.UserRepository;
+import cl.sebastianrojo.moviereview.security.JwtUtil;
+
+/**
+ * /api/reviews/my/feed responde con un CompletableFuture: la petición se completa en un
+ * despacho ASYNC que también debe quedar autenticado con el token de la petición original.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:feed;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "tmdb.prefetch.enabled=false",
+        "tmdb.api.key=test",
+        "tmdb.api.base-url=http://localhost:1",
+        "tmdb.api.image-base-url=https://image.tmdb.org/t/p"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class ReviewFeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void myFeedIsAuthorizedOnAsyncDispatch() throws Exception {
+        User user = userRepository.save(new User("feeduser", "secret", "feeduser@mail.com", Role.USER));
+        String token = jwtUtil.generateToken(user.getId(), user.getUsername(), List.of("ROLE_USER"));
+
+        MvcResult result = mockMvc.perform(get("/api/reviews/my/feed").header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    void myFeedRequiresToken() throws Exception {
+        mockMvc.perform(get("/api/reviews/my/feed"))
+                .andExpect(status().isForbidden());
+    }
+}
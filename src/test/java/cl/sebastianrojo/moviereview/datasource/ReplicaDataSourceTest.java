@@ -0,0 +1,107 @@
+package cl.sebastianrojo.moviereview.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Enrutamiento primario / réplica con dos bases H2 embebidas que se identifican
+ * por el contenido de la tabla node.
+ */
+class ReplicaDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        ReplicaDataSource replicas = new ReplicaDataSource(primary, Map.of("replica-1", replica));
+        DataSource routing = routing(replicas);
+
+        assertThat(currentNode(routing, true)).isEqualTo("replica");
+        assertThat(currentNode(routing, false)).isEqualTo("primary");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenNoReplicaIsAvailable() {
+        ReplicaDataSource replicas = new ReplicaDataSource(primary, Map.of("replica-1", replica));
+        replicas.setAvailableReplicas(List.of());
+
+        assertThat(currentNode(routing(replicas), true)).isEqualTo("primary");
+    }
+
+    @Test
+    void unreachableReplicaIsExcluded() {
+        DataSource missing = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";IFEXISTS=TRUE", "sa", "");
+        ReplicaDataSource replicas = new ReplicaDataSource(primary, Map.of("replica-1", missing));
+        DataSource routing = routing(replicas);
+
+        // La conexión fallida recurre al primario y deja la réplica fuera
+        assertThat(currentNode(routing, true)).isEqualTo("primary");
+        assertThat(replicas.getAvailableReplicas()).isEmpty();
+
+        // El chequeo de salud tampoco la vuelve a incluir mientras siga caída
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties(
+                true, Duration.ofSeconds(5), Duration.ofSeconds(10), "", "", List.of());
+        new ReplicaHealthMonitor(replicas, properties, new SimpleMeterRegistry()).check();
+        assertThat(replicas.getAvailableReplicas()).isEmpty();
+    }
+
+    @Test
+    void explicitCredentialsGoToPrimary() throws Exception {
+        ReplicaDataSource replicas = new ReplicaDataSource(primary, Map.of("replica-1", replica));
+
+        try (Connection connection = replicas.getConnection("sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet node = statement.executeQuery("SELECT name FROM node")) {
+            assertThat(node.next()).isTrue();
+            assertThat(node.getString(1)).isEqualTo("primary");
+        }
+    }
+
+    private static DataSource database(String node) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + node + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", node);
+        return dataSource;
+    }
+
+    private DataSource routing(ReplicaDataSource replicas) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(replicas);
+        return routing;
+    }
+
+    private static String currentNode(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+}
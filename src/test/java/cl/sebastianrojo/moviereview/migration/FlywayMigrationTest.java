@@ -0,0 +1,113 @@
+package cl.sebastianrojo.moviereview.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+/**
+ * Migraciones de db/migration sobre MySQL real, tanto en una base vacía como en una base
+ * creada por ddl-auto antes de Flyway (se marca en V0 y vuelve a ejecutar V1).
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayMigrationTest {
+
+    @Container
+    private static final MySQLContainer MYSQL = new MySQLContainer("mysql:8.4");
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        jdbc = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).cleanDisabled(false).load().clean();
+    }
+
+    @Test
+    void migratesEmptyDatabase() {
+        flyway().migrate();
+
+        assertThat(currentVersion()).isEqualTo("5");
+        assertThat(indexExists("idx_reviews_content_created")).isTrue();
+        assertThat(indexExists("idx_reviews_user_created")).isTrue();
+    }
+
+    @Test
+    void migratesDatabaseCreatedByDdlAuto() {
+        // Esquema que dejaba ddl-auto: update (sin content_rating_stats ni índices de acceso)
+        jdbc.execute("""
+            CREATE TABLE users (
+                id BIGINT NOT NULL AUTO_INCREMENT, username VARCHAR(50) NOT NULL,
+                password VARCHAR(255) NOT NULL, email VARCHAR(100) NOT NULL,
+                role VARCHAR(20) NOT NULL, created_at DATETIME(6) NOT NULL,
+                PRIMARY KEY (id), CONSTRAINT uk_users_username UNIQUE (username),
+                CONSTRAINT uk_users_email UNIQUE (email))
+            """);
+        jdbc.execute("""
+            CREATE TABLE reviews (
+                id BIGINT NOT NULL AUTO_INCREMENT, external_content_id VARCHAR(100) NOT NULL,
+                content_type VARCHAR(20) NOT NULL, rating INT NOT NULL, comment VARCHAR(1000),
+                created_at DATETIME(6) NOT NULL, updated_at DATETIME(6) NOT NULL, user_id BIGINT NOT NULL,
+                PRIMARY KEY (id),
+                CONSTRAINT uk_user_content UNIQUE (user_id, external_content_id, content_type),
+                CONSTRAINT FK_reviews_user FOREIGN KEY (user_id) REFERENCES users (id))
+            """);
+        jdbc.update("INSERT INTO users (username, password, email, role, created_at) VALUES "
+                + "('ana', 'x', 'ana@mail.com', 'USER', NOW(6)), ('luis', 'x', 'luis@mail.com', 'USER', NOW(6))");
+        jdbc.update("INSERT INTO reviews (external_content_id, content_type, rating, created_at, updated_at, user_id) VALUES "
+                + "('550', 'MOVIE', 5, NOW(6), NOW(6), 1), ('550', 'MOVIE', 3, NOW(6), NOW(6), 2)");
+
+        flyway().migrate();
+
+        assertThat(currentVersion()).isEqualTo("5");
+        assertThat(indexExists("idx_reviews_content_created")).isTrue();
+        assertThat(indexExists("idx_reviews_user_created")).isTrue();
+
+        Map<String, Object> stats = jdbc.queryForMap(
+                "SELECT review_count, rating_sum, stars_3, stars_5 FROM content_rating_stats "
+                + "WHERE external_content_id = '550' AND content_type = 'MOVIE'");
+        assertThat(((Number) stats.get("review_count")).longValue()).isEqualTo(2);
+        assertThat(((Number) stats.get("rating_sum")).longValue()).isEqualTo(8);
+        assertThat(((Number) stats.get("stars_3")).longValue()).isEqualTo(1);
+        assertThat(((Number) stats.get("stars_5")).longValue()).isEqualTo(1);
+
+        // Los ids ya usados quedan fuera del primer bloque de la secuencia
+        assertThat(jdbc.queryForObject("SELECT next_val FROM reviews_seq", Long.class)).isGreaterThan(2 + 50);
+    }
+
+    /**
+     * Misma configuración que spring.flyway en application.yml
+     */
+    private Flyway flyway() {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load();
+    }
+
+    private String currentVersion() {
+        return flyway().info().current().getVersion().getVersion();
+    }
+
+    private boolean indexExists(String name) {
+        Integer count = jdbc.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'reviews' AND index_name = ?
+                """, Integer.class, name);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,81 @@
+package cl.sebastianrojo.moviereview.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import cl.sebastianrojo.moviereview.dto.review.ReviewResponse;
+import cl.sebastianrojo.moviereview.entity.ContentType;
+import cl.sebastianrojo.moviereview.entity.Review;
+import cl.sebastianrojo.moviereview.entity.Role;
+import cl.sebastianrojo.moviereview.entity.User;
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ReviewRepositoryTest {
+
+    private static final int REVIEW_COUNT = 25;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            User user = userRepository.save(new User("user" + i, "secret", "user" + i + "@mail.com", Role.USER));
+
+            Review review = new Review();
+            review.setExternalContentId("550");
+            review.setContentType(ContentType.MOVIE);
+            review.setRating(i % 5 + 1);
+            review.setComment("Review " + i);
+            review.setUser(user);
+            reviewRepository.save(review);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void contentPageIsLoadedWithSingleStatement() {
+        List<ReviewResponse> page = reviewRepository.findContentPageNewest("550", ContentType.MOVIE, Limit.of(50));
+
+        assertThat(page).hasSize(REVIEW_COUNT);
+        assertThat(page).allSatisfy(review -> assertThat(review.username()).startsWith("user"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void userReviewsAreLoadedWithSingleStatement() {
+        List<ReviewResponse> reviews = reviewRepository.findResponsesByUsername("user3");
+
+        assertThat(reviews).hasSize(1);
+        assertThat(reviews.get(0).username()).isEqualTo("user3");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,90 @@
+package cl.sebastianrojo.moviereview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+/**
+ * Reconciliación de content_rating_stats sobre MySQL real (usa GET_LOCK y ON DUPLICATE KEY UPDATE).
+ * Con páginas de 2 claves para recorrer varias páginas con pocos contenidos.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "reviews.stats.reconcile-batch-size=2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ContentRatingStatsService.class)
+class ContentRatingStatsReconcileTest {
+
+    @Container
+    private static final MySQLContainer MYSQL = new MySQLContainer("mysql:8.4");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Autowired
+    private ContentRatingStatsService statsService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("DELETE FROM content_rating_stats");
+        jdbc.update("DELETE FROM reviews");
+        jdbc.update("DELETE FROM users");
+        jdbc.update("INSERT INTO users (id, username, password, email, role, created_at) VALUES "
+                + "(1, 'ana', 'x', 'ana@mail.com', 'USER', NOW(6)), (2, 'luis', 'x', 'luis@mail.com', 'USER', NOW(6))");
+        jdbc.update("INSERT INTO reviews (external_content_id, content_type, rating, created_at, updated_at, user_id) VALUES "
+                + "('100', 'MOVIE', 4, NOW(6), NOW(6), 1), ('100', 'MOVIE', 2, NOW(6), NOW(6), 2), "
+                + "('200', 'MOVIE', 5, NOW(6), NOW(6), 1), ('300', 'SERIES', 3, NOW(6), NOW(6), 1)");
+    }
+
+    @Test
+    void reconcileRecreatesMissingRowsAndZeroesOrphans() {
+        statsService.reconcile();
+        jdbc.update("DELETE FROM content_rating_stats WHERE external_content_id = '200'");
+        jdbc.update("""
+            INSERT INTO content_rating_stats (external_content_id, content_type, review_count, rating_sum,
+                stars_1, stars_2, stars_3, stars_4, stars_5, updated_at)
+            VALUES ('999', 'MOVIE', 3, 12, 0, 0, 0, 3, 0, NOW(6))
+            """);
+
+        statsService.reconcile();
+
+        assertThat(stats("100", "MOVIE")).containsEntry("review_count", 2L).containsEntry("rating_sum", 6L);
+        assertThat(stats("200", "MOVIE")).containsEntry("review_count", 1L).containsEntry("stars_5", 1L);
+        assertThat(stats("300", "SERIES")).containsEntry("review_count", 1L).containsEntry("stars_3", 1L);
+        assertThat(stats("999", "MOVIE")).containsEntry("review_count", 0L).containsEntry("rating_sum", 0L);
+    }
+
+    private Map<String, Object> stats(String externalContentId, String contentType) {
+        return jdbc.queryForMap("""
+            SELECT review_count, rating_sum, stars_3, stars_5 FROM content_rating_stats
+            WHERE external_content_id = ? AND content_type = ?
+            """, externalContentId, contentType);
+    }
+}
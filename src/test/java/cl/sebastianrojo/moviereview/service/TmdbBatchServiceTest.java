@@ -0,0 +1,71 @@
+package cl.sebastianrojo.moviereview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbDetailsBatchItem;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbDetailsRef;
+import cl.sebastianrojo.moviereview.dto.tmdb.TmdbMovieDetails;
+import cl.sebastianrojo.moviereview.entity.ContentType;
+import cl.sebastianrojo.moviereview.tmdb.TmdbBoundedExecutor;
+
+class TmdbBatchServiceTest {
+
+    private final TmdbService tmdbService = mock(TmdbService.class);
+    private final ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        virtualThreads.shutdownNow();
+    }
+
+    @Test
+    void batchNeverHoldsMoreExecutorSlotsThanItsParallelism() {
+        TmdbBoundedExecutor executor = new TmdbBoundedExecutor(virtualThreads, 10);
+        AtomicInteger maxActive = new AtomicInteger();
+        when(tmdbService.getMovieDetails(anyLong())).thenAnswer(invocation -> {
+            maxActive.accumulateAndGet(executor.getActiveTasks(), Math::max);
+            Thread.sleep(20);
+            return movie(invocation.getArgument(0));
+        });
+        TmdbBatchService batchService = new TmdbBatchService(tmdbService, executor, 50, 2, Duration.ofSeconds(10));
+
+        List<TmdbDetailsBatchItem> items = batchService.getDetails(refs(10)).join().items();
+
+        assertThat(items).hasSize(10).allSatisfy(item -> assertThat(item.movie()).isNotNull());
+        assertThat(maxActive.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void rejectedSubmitIsReportedPerItem() {
+        TmdbBoundedExecutor executor = new TmdbBoundedExecutor(virtualThreads, 0);
+        TmdbBatchService batchService = new TmdbBatchService(tmdbService, executor, 50, 2, Duration.ofSeconds(10));
+
+        List<TmdbDetailsBatchItem> items = batchService.getDetails(refs(3)).join().items();
+
+        assertThat(items).hasSize(3).allSatisfy(item -> assertThat(item.error()).isNotNull());
+    }
+
+    private static List<TmdbDetailsRef> refs(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> new TmdbDetailsRef(ContentType.MOVIE, id))
+                .toList();
+    }
+
+    private static TmdbMovieDetails movie(Long id) {
+        return new TmdbMovieDetails(id, "Movie " + id, null, null, null, null, null, null, null,
+                null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,88 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cl.sebastianrojo.moviereview.tmdb.TmdbCircuitBreaker.State;
+
+class TmdbCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private TmdbCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new TmdbCircuitBreaker(
+                new TmdbResilienceProperties.CircuitBreaker(10, 4, 0.5, Duration.ofSeconds(30), 2),
+                clock::get);
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        breaker.onSuccess();
+        breaker.onError();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+        breaker.onError();
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void halfOpenProbesCloseTheCircuitWhenTheySucceed() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.getFailureRate()).isZero();
+    }
+
+    @Test
+    void failedProbeReopensTheCircuit() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onError();
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void isCallPermittedDoesNotTakeProbePermits() {
+        open();
+        assertThat(breaker.isCallPermitted()).isFalse();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertThat(breaker.isCallPermitted()).isTrue();
+        assertThat(breaker.isCallPermitted()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.isCallPermitted()).isFalse();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onError();
+        }
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+}
@@ -0,0 +1,81 @@
+package cl.sebastianrojo.moviereview.tmdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TmdbRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private TmdbRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new TmdbRateLimiter(
+                new TmdbResilienceProperties.RateLimit(true, 10, 2, Duration.ZERO, Duration.ZERO,
+                        Duration.ofSeconds(1), Duration.ofSeconds(4)),
+                clock::get);
+    }
+
+    @Test
+    void allowsBurstThenRefillsAtConfiguredRate() {
+        assertThat(tryAcquire()).isTrue();
+        assertThat(tryAcquire()).isTrue();
+        assertThat(tryAcquire()).isFalse();
+
+        advance(Duration.ofMillis(100));
+
+        assertThat(tryAcquire()).isTrue();
+        assertThat(tryAcquire()).isFalse();
+    }
+
+    @Test
+    void retryAfterPausesAllCalls() {
+        limiter.onThrottled(Duration.ofSeconds(3));
+
+        advance(Duration.ofSeconds(2));
+        assertThat(tryAcquire()).isFalse();
+
+        // Tras la pausa el bucket se vuelve a llenar desde cero
+        advance(Duration.ofSeconds(1));
+        assertThat(tryAcquire()).isFalse();
+        advance(Duration.ofMillis(100));
+        assertThat(tryAcquire()).isTrue();
+    }
+
+    @Test
+    void retryAfterIsCappedAtMaxBackoff() {
+        limiter.onThrottled(Duration.ofHours(1));
+
+        advance(Duration.ofSeconds(4).plusMillis(100));
+        assertThat(tryAcquire()).isTrue();
+    }
+
+    @Test
+    void backoffGrowsUntilASuccessfulCall() {
+        limiter.onThrottled(null);
+        limiter.onThrottled(null);
+
+        advance(Duration.ofMillis(1_500));
+        assertThat(tryAcquire()).isFalse();
+        advance(Duration.ofMillis(600));
+        assertThat(tryAcquire()).isTrue();
+
+        limiter.onSuccess();
+        limiter.onThrottled(null);
+        advance(Duration.ofMillis(1_100));
+        assertThat(tryAcquire()).isTrue();
+    }
+
+    private boolean tryAcquire() {
+        return limiter.acquire(TmdbRequestPriority.INTERACTIVE, Duration.ZERO);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}